@@ -16,6 +16,7 @@ import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.entity.*;
 import org.bukkit.event.player.*;
+import org.bukkit.event.world.PortalCreateEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
@@ -24,16 +25,31 @@ import org.bukkit.scoreboard.*;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
 
 /**
  * Represents a manhunt
  */
-public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandler {
+public class AbstractManhunt implements ManhuntEventHandler {
+
+    private static final List<ManhuntRule> DEFAULT_RULES = List.of(
+            new FriendlyFireRule(), new CombatGraceRule(), new NetherGraceRule(), new InvincibilityRule(),
+            new LastHunterRule(), new ReviveRule()
+    );
 
     private World overworld, nether, end;
+
     private final ManhuntPlugin plugin;
-    private final Set<UUID> runners, hunters;
+    private ManhuntSettings settings;
+    private final List<ManhuntRule> ruleList;
+    private RuleTable rules = RuleTable.EMPTY;
+    private final Map<UUID, Participant> participants;
+    private final List<Participant> slots; // indexed by Participant.slot, null where free
+    private int runnerCount = 0, hunterCount = 0;
+    private final Map<UUID, Player> onlineRunners, onlineHunters, onlinePlayers;
+    private final Collection<Player> runnersView, huntersView, playersView;
+    private final ManhuntHud hud;
 
     /**
      * Constructs a new manhunt
@@ -41,10 +57,29 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
      * @param plugin Plugin
      */
     public AbstractManhunt(ManhuntPlugin plugin) {
+        this(plugin, new ManhuntRule[0]);
+    }
+
+    /**
+     * Constructs a new manhunt with the default rules and the given additional rules
+     *
+     * @param plugin Plugin
+     * @param rules Additional rules
+     */
+    protected AbstractManhunt(ManhuntPlugin plugin, ManhuntRule... rules) {
         this.plugin = plugin;
-        this.runners = new HashSet<>();
-        this.hunters = new HashSet<>();
-        runTaskTimer(plugin, 0, 0);
+        this.ruleList = new ArrayList<>(DEFAULT_RULES);
+        this.ruleList.addAll(Arrays.asList(rules));
+        this.participants = new HashMap<>();
+        this.slots = new ArrayList<>();
+        this.onlineRunners = new HashMap<>();
+        this.onlineHunters = new HashMap<>();
+        this.onlinePlayers = new HashMap<>();
+        this.runnersView = Collections.unmodifiableCollection(onlineRunners.values());
+        this.huntersView = Collections.unmodifiableCollection(onlineHunters.values());
+        this.playersView = Collections.unmodifiableCollection(onlinePlayers.values());
+        this.hud = new ManhuntHud(this);
+        this.settings = plugin.getSettings();
     }
 
     /**
@@ -58,10 +93,82 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
         this.end = worlds[2];
     }
 
+    /**
+     * Gets the worlds for this manhunt.
+     *
+     * @return [Overworld, Nether, End], elements may be {@code null}
+     */
+    public World[] getWorlds() {
+        return new World[]{overworld, nether, end};
+    }
+
+    /**
+     * Gets the nether for this manhunt, creating it if it does not exist yet
+     *
+     * @return Nether
+     */
+    public World getNether() {
+        if (nether == null)
+            nether = createDimension(1);
+        return nether;
+    }
+
+    /**
+     * Gets the end for this manhunt, creating it if it does not exist yet
+     *
+     * @return End
+     */
+    public World getEnd() {
+        if (end == null)
+            end = createDimension(2);
+        return end;
+    }
+
+    /**
+     * Creates a dimension of this manhunt that does not exist yet
+     *
+     * @param dimension 1 for the nether, 2 for the end
+     * @return World
+     */
+    private World createDimension(int dimension) {
+        World world = plugin.getListener().createDimension(this, dimension);
+        setWorldBorder(world);
+        return world;
+    }
+
+    /**
+     * Schedules the creation of a dimension that does not exist yet on a later tick, so it is ready before it is needed
+     *
+     * @param dimension 1 for the nether, 2 for the end
+     * @param delay Delay in ticks
+     */
+    private void prepareDimension(int dimension, long delay) {
+        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+            if (overworld == null)
+                return;
+            if (dimension == 1)
+                getNether();
+            else
+                getEnd();
+        }, delay);
+    }
+
+    private void setWorldBorder(World world) {
+        int size = settings.getWorldborderRadius() * 2;
+        if (world.getEnvironment() == World.Environment.NETHER)
+            size /= 8;
+        world.getWorldBorder().setSize(size);
+    }
+
     public void unload() {
-        plugin.getServer().unloadWorld(overworld, true);
-        plugin.getServer().unloadWorld(nether, true);
-        plugin.getServer().unloadWorld(end, true);
+        String name = overworld != null ? overworld.getName() : null;
+        World[] worlds = getWorlds();
+        for (int i = 0; i < worlds.length; i++) {
+            if (worlds[i] != null)
+                plugin.getWorldDeleter().unloadAndDelete(worlds[i]);
+            else if (name != null) // the template copies every dimension, even ones this manhunt never loaded
+                plugin.getWorldDeleter().deleteUnloaded(String.format(ManhuntListener.WORLD_NAMES[i], name));
+        }
         overworld = null;
         nether = null;
         end = null;
@@ -72,40 +179,72 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
     }
 
     /**
-     * Gets all players in this manhunt
+     * Gets the rules this manhunt is assembled from, including ones that are disabled by the settings
      *
-     * @return Set of players
+     * @return Unmodifiable list of rules
      */
-    public Set<Player> getPlayers() {
-        HashSet<UUID> uuids = new HashSet<>();
-        uuids.addAll(runners);
-        uuids.addAll(hunters);
-        return getPlayers(uuids);
+    public List<ManhuntRule> getRules() {
+        return Collections.unmodifiableList(ruleList);
     }
 
     /**
-     * Converts a set of UUIDs to a set of players
+     * Gets the table of event handlers of the active rules, built when this manhunt starts
      *
-     * @param uuids Set of UUIDs
-     * @return Set of players
+     * @return Rule table
      */
-    private Set<Player> getPlayers(Set<UUID> uuids) {
-        HashSet<Player> players = new HashSet<>();
-        for (UUID uuid : uuids) {
-            Player player = plugin.getServer().getPlayer(uuid);
-            if (player != null)
-                players.add(player);
-        }
-        return players;
+    public RuleTable getRuleTable() {
+        return rules;
+    }
+
+    /**
+     * Gets the settings this manhunt uses, captured from the plugin when it was created and again when it starts
+     *
+     * @return Settings
+     */
+    public ManhuntSettings getSettings() {
+        return settings;
     }
 
     /**
-     * Gets all runners in this manhunt
+     * Gets all online players in this manhunt
      *
-     * @return Set of players
+     * @return Live, unmodifiable collection of players
      */
-    public Set<Player> getRunners() {
-        return getPlayers(runners);
+    public Collection<Player> getPlayers() {
+        return playersView;
+    }
+
+    /**
+     * Updates the online players for the given member of this manhunt
+     *
+     * @param uuid Player UUID
+     * @param player Player, or {@code null} if they are offline
+     */
+    void updateOnline(UUID uuid, Player player) {
+        onlineRunners.remove(uuid);
+        onlineHunters.remove(uuid);
+        onlinePlayers.remove(uuid);
+        if (player == null)
+            return;
+
+        Participant participant = participants.get(uuid);
+        if (participant == null)
+            return;
+        else if (participant.runner)
+            onlineRunners.put(uuid, player);
+        else
+            onlineHunters.put(uuid, player);
+        onlinePlayers.put(uuid, player);
+        plugin.getNameCache().put(player);
+    }
+
+    /**
+     * Gets all online runners in this manhunt
+     *
+     * @return Live, unmodifiable collection of players
+     */
+    public Collection<Player> getRunners() {
+        return runnersView;
     }
 
     /**
@@ -113,10 +252,10 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
      *
      * @param runner Runner
      * @return {@code true} if the runner was added
+     * @throws IllegalStateException if the player is in another manhunt that is running
      */
     public boolean addRunner(UUID runner) {
-        hunters.remove(runner); // remove if hunter
-        return runners.add(runner);
+        return join(runner, true);
     }
 
     /**
@@ -126,16 +265,17 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
      * @return {@code true} if the player is a runner
      */
     public boolean isRunner(UUID player) {
-        return runners.contains(player);
+        Participant participant = participants.get(player);
+        return participant != null && participant.runner;
     }
 
     /**
-     * Gets all hunters in this manhunt
+     * Gets all online hunters in this manhunt
      *
-     * @return Set of players
+     * @return Live, unmodifiable collection of players
      */
-    public Set<Player> getHunters() {
-        return getPlayers(hunters);
+    public Collection<Player> getHunters() {
+        return huntersView;
     }
 
     /**
@@ -143,10 +283,74 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
      *
      * @param hunter Hunter
      * @return {@code true} if the hunter was added
+     * @throws IllegalStateException if the player is in another manhunt that is running
      */
     public boolean addHunter(UUID hunter) {
-        runners.remove(hunter); // remove if runner
-        return hunters.add(hunter);
+        return join(hunter, false);
+    }
+
+    /**
+     * Adds a player to this manhunt or changes their role, giving new players the first free slot
+     *
+     * @param uuid Player UUID
+     * @param runner {@code true} for a runner, {@code false} for a hunter
+     * @return {@code true} if the player did not already have the role
+     * @throws IllegalStateException if the player is in another manhunt that is running
+     */
+    private boolean join(UUID uuid, boolean runner) {
+        AbstractManhunt previous = plugin.getRegistry().getMembership(uuid);
+        if (previous != null && previous != this && previous.isRunning())
+            throw new IllegalStateException("Player is in another running manhunt");
+
+        Participant participant = participants.get(uuid);
+        boolean added;
+        if (participant == null) {
+            int slot = slots.indexOf(null);
+            if (slot < 0) {
+                slot = slots.size();
+                slots.add(null);
+            }
+            participant = new Participant(uuid, slot, runner);
+            participants.put(uuid, participant);
+            slots.set(slot, participant);
+            added = true;
+        } else {
+            added = participant.runner != runner;
+            if (added)
+                countRole(participant, -1);
+            participant.runner = runner;
+        }
+        if (added)
+            countRole(participant, 1);
+
+        plugin.getRegistry().memberAdded(this, uuid);
+        updateOnline(uuid, plugin.getServer().getPlayer(uuid));
+        return added;
+    }
+
+    Participant getParticipant(UUID uuid) {
+        return participants.get(uuid);
+    }
+
+    int getHunterCount() {
+        return hunterCount;
+    }
+
+    /**
+     * Checks if a participant was hit by another player recently enough for a death to count as a kill
+     *
+     * @param participant Participant
+     * @return {@code true} if in combat
+     */
+    boolean isInCombat(Participant participant) {
+        return participant.lastHit != Participant.NEVER && getTime() - participant.lastHit <= settings.getCombatTime();
+    }
+
+    private void countRole(Participant participant, int delta) {
+        if (participant.runner)
+            runnerCount += delta;
+        else
+            hunterCount += delta;
     }
 
     /**
@@ -156,7 +360,8 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
      * @return {@code true} if the player is a hunter
      */
     public boolean isHunter(UUID player) {
-        return hunters.contains(player);
+        Participant participant = participants.get(player);
+        return participant != null && !participant.runner;
     }
 
     /**
@@ -166,7 +371,7 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
      * @return {@code true} if the player is in this manhunt
      */
     public boolean contains(UUID player) {
-        return runners.contains(player) || hunters.contains(player);
+        return participants.containsKey(player);
     }
 
     /**
@@ -176,7 +381,15 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
      * @return {@code true} if the player was removed
      */
     public boolean remove(UUID player) {
-        return runners.remove(player) || hunters.remove(player);
+        Participant participant = participants.remove(player);
+        if (participant != null) {
+            slots.set(participant.slot, null);
+            countRole(participant, -1);
+            plugin.getRegistry().memberRemoved(this, player);
+            updateOnline(player, null);
+            return true;
+        }
+        return false;
     }
 
     /**
@@ -187,6 +400,24 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
             player.sendMessage(message);
     }
 
+    /**
+     * Runs an action for every online player in this manhunt and every other player in one of its worlds
+     *
+     * @param action Action
+     */
+    public void forEachViewer(Consumer<Player> action) {
+        for (Player player : getPlayers())
+            action.accept(player);
+        for (World world : getWorlds()) {
+            if (world == null)
+                continue;
+            for (Player player : world.getPlayers()) {
+                if (!contains(player.getUniqueId()))
+                    action.accept(player);
+            }
+        }
+    }
+
     /**
      * Gives the given player all available tracking compasses
      *
@@ -196,8 +427,10 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
     public int giveTrackingCompasses(Player player) {
         if (isHunter(player.getUniqueId())) {
             int count = 0;
-            for (UUID runner : runners) {
-                ItemStack compass = CompassListener.createCompassItem(new PlayerCompassTarget(runner));
+            for (Participant runner : slots) {
+                if (runner == null || !runner.runner)
+                    continue;
+                ItemStack compass = CompassListener.createCompassItem(new PlayerCompassTarget(runner.uuid));
                 CompassListener.updateCompass(compass, player.getLocation());
                 if (!player.getInventory().addItem(compass).isEmpty())
                     player.getWorld().dropItem(player.getLocation(), compass);
@@ -208,16 +441,13 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
         return 0;
     }
 
-    private boolean running = false, paused = false, won = false;
+    private boolean starting = false, running = false, paused = false, won = false;
+    private boolean endScheduled = false;
     private int runnersEliminated = 0;
     private int time;
     private int netherEntryTime = -1;
     private Location runnerSpawnLocation, hunterSpawnLocation;
-    private Map<UUID, Integer> lastHits;
-    private Map<UUID, DropHolder> drops;
-    private Map<UUID, Boolean> canRevive;
-    private Map<UUID, Integer> revives;
-    private Map<UUID, Integer> invincibility;
+    private final TimingWheel events = new TimingWheel();
 
     /**
      * Checks if this manhunt is running
@@ -228,6 +458,15 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
         return running;
     }
 
+    /**
+     * Checks if this manhunt is setting up its worlds and players before running
+     *
+     * @return {@code true} if this manhunt is starting
+     */
+    public boolean isStarting() {
+        return starting;
+    }
+
     /**
      * Gets the amount of time that this manhunt has been running
      *
@@ -243,7 +482,7 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
      * @return Number of ticks
      */
     public int getGraceRemaining() {
-        return plugin.getConfig().getInt("game.combat-grace") * 20 - getTime();
+        return settings.getCombatGrace() - getTime();
     }
 
     /**
@@ -261,7 +500,7 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
      * @return Number of ticks
      */
     public int getNetherGraceRemaining() {
-        int grace = plugin.getConfig().getInt("game.nether-grace") * 20;
+        int grace = settings.getNetherGrace();
         if (netherEntryTime < 0)
             return grace;
         return grace - (getTime() - netherEntryTime);
@@ -284,11 +523,30 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
     public boolean setNetherEntryTime() {
         if (netherEntryTime < 0) {
             netherEntryTime = time;
+            int deadline = netherEntryTime + settings.getNetherGrace();
+            scheduleWarnings(settings.getNetherGraceWarnings(), deadline,
+                    warning -> forEachViewer(player -> player.sendMessage(warning)));
             return true;
         }
         return false;
     }
 
+    /**
+     * Schedules each warning in a table of warnings
+     *
+     * @param warnings Messages indexed by seconds before the deadline, {@code null} where there is no warning
+     * @param deadline Deadline in ticks
+     * @param warning Action to run with each message
+     */
+    void scheduleWarnings(List<String> warnings, int deadline, Consumer<String> warning) {
+        for (int seconds = 0; seconds < warnings.size(); seconds++) {
+            String message = warnings.get(seconds);
+            int tick = deadline - seconds * 20;
+            if (message != null && tick >= time)
+                events.schedule(tick, () -> warning.accept(message));
+        }
+    }
+
     /**
      * Gets the spawn location for the given player
      *
@@ -313,7 +571,8 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
     public Integer getRevives(UUID player) {
         if (!isRunning())
             return null;
-        return revives.get(player);
+        Participant participant = participants.get(player);
+        return participant != null ? participant.revives : null;
     }
 
     /**
@@ -326,14 +585,21 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
         if (!isRunning())
             return null;
 
-        DropHolder dropHolder = drops.get(player.getUniqueId());
-        if (dropHolder != null) {
-            invincibility.put(player.getUniqueId(), getTime() + plugin.getConfig().getInt("game.invincibility") * 20);
-            dropHolder.give(player);
-
-            int revives = getRevives(player.getUniqueId());
+        Participant participant = participants.get(player.getUniqueId());
+        if (participant != null && participant.drops != null) {
+            int deadline = getTime() + settings.getInvincibility();
+            participant.invincibleUntil = deadline;
+            scheduleWarnings(settings.getInvincibilityWarnings(), deadline, warning -> {
+                Player online = plugin.getServer().getPlayer(participant.uuid);
+                // a later revive replaces the deadline, leaving these warnings stale
+                if (online != null && participant.invincibleUntil == deadline)
+                    online.sendMessage(warning);
+            });
+            participant.drops.give(player);
+
+            int revives = participant.revives;
             if (revives > 0) {
-                this.revives.put(player.getUniqueId(), --revives);
+                participant.revives = --revives;
                 Score score = plugin.getServer().getScoreboardManager().getMainScoreboard().getObjective("revives").getScore(player.getName());
                 score.setScore(score.getScore() - 1);
             }
@@ -350,9 +616,9 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
      */
     public void dropItems(Player player) {
 
-        DropHolder dropHolder = drops.get(player.getUniqueId());
-        if (dropHolder != null) {
-            dropHolder.drop();
+        Participant participant = participants.get(player.getUniqueId());
+        if (participant != null && participant.drops != null) {
+            participant.drops.drop();
         }
 
     }
@@ -364,10 +630,13 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
      * @return Ticks of invincibility remaining
      */
     public int getInvincibility(UUID player) {
-        Integer invincibilityTime = invincibility.get(player);
-        if (invincibilityTime != null)
-            return invincibilityTime - getTime();
-        return -1;
+        return getInvincibility(participants.get(player));
+    }
+
+    private int getInvincibility(Participant participant) {
+        if (participant == null || participant.invincibleUntil == Participant.NEVER)
+            return -1;
+        return participant.invincibleUntil - getTime();
     }
 
     /**
@@ -396,22 +665,26 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
      * @return {@code true} if this manhunt was started
      */
     public boolean start(Consumer<String> output) {
-        if (isRunning())
+        if (isRunning() || starting)
             return false;
-        if (overworld == null || nether == null || end == null)
-            throw new IllegalStateException("One or more worlds are not ready");
+        if (overworld == null)
+            throw new IllegalStateException("The overworld is not ready");
+        starting = true;
+        settings = plugin.getSettings();
+        rules = RuleTable.build(ruleList, settings);
+        endScheduled = false;
 
         Scoreboard scoreboard = plugin.getServer().getScoreboardManager().getMainScoreboard();
 
         Team runnerTeam = scoreboard.getTeam("runners");
         if (runnerTeam == null)
             runnerTeam = scoreboard.registerNewTeam("runners");
-        runnerTeam.setColor(ChatColor.valueOf(plugin.getConfigString("scoreboard.runner-color")));
+        runnerTeam.setColor(settings.getRunnerColor());
 
         Team hunterTeam = scoreboard.getTeam("hunters");
         if (hunterTeam == null)
             hunterTeam = scoreboard.registerNewTeam("hunters");
-        hunterTeam.setColor(ChatColor.valueOf(plugin.getConfigString("scoreboard.hunter-color")));
+        hunterTeam.setColor(settings.getHunterColor());
 
         Objective health = scoreboard.getObjective("health");
         if (health == null)
@@ -424,10 +697,12 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
         revivesObj = scoreboard.registerNewObjective("revives", "dummy", "Revives Remaining");
         revivesObj.setDisplaySlot(DisplaySlot.SIDEBAR);
 
-        int maxDistance = plugin.getConfig().getInt("game.max-distance");
+        int maxDistance = settings.getMaxDistance();
         output.accept("Choosing safe spawn locations...");
-        CompletableFuture<Location> runnerSpawnLocationFuture = Utils.getRandomSafeLocation(plugin, overworld, maxDistance);
-        CompletableFuture<Location> hunterSpawnLocationFuture = Utils.getRandomSafeLocation(plugin, overworld, maxDistance);
+        // seeded per start, worlds copied from the template or pool share a seed but should not share spawns
+        SpawnFinder spawnFinder = new SpawnFinder(overworld, maxDistance, new Random(ThreadLocalRandom.current().nextLong()),
+                settings.getSpawnCandidates(), settings.getSpawnSearchBatches());
+        CompletableFuture<List<Location>> spawnLocationsFuture = spawnFinder.find(2);
 
         // Lambda Pain
         Team finalRunnerTeam = runnerTeam;
@@ -435,35 +710,33 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
         Objective finalHealth = health;
         Objective finalRevives = revivesObj;
 
-        runnerSpawnLocationFuture.thenAcceptBoth(hunterSpawnLocationFuture, (rl, hl) -> {
+        spawnLocationsFuture.thenCompose(spawnLocations -> {
 
-            runnerSpawnLocation = rl;
-            hunterSpawnLocation = hl;
+            runnerSpawnLocation = spawnLocations.get(0);
+            hunterSpawnLocation = spawnLocations.get(1);
             output.accept("Spawn locations found!");
 
-            int worldborderSize = plugin.getConfig().getInt("game.worldborder-radius") * 2;
-            overworld.getWorldBorder().setSize(worldborderSize);
-            nether.getWorldBorder().setSize(worldborderSize / 8);
-            end.getWorldBorder().setSize(worldborderSize);
+            for (World world : getWorlds()) {
+                if (world != null)
+                    setWorldBorder(world);
+            }
+            plugin.getPregenerator().start(overworld, runnerSpawnLocation, hunterSpawnLocation);
 
-            lastHits = new HashMap<>();
-            drops = new HashMap<>();
-            canRevive = new HashMap<>();
-            revives = new HashMap<>();
-            invincibility = new HashMap<>();
+            output.accept("Loading spawn areas...");
+            return loadSpawnAreas(settings.getSpawnPreloadRadius(),
+                    runnerSpawnLocation, hunterSpawnLocation);
 
-            output.accept("Setting up players...");
-            int pearls = getStartingPearlCount();
-            int runners = this.runners.size();
-            int pearlsRemainder = 0;
-            if (runners != 0) {
-                pearlsRemainder = pearls % runners;
-                pearls /= runners;
+        }).thenCompose(spawnChunks -> {
+
+            int reviveCount = settings.getRevives();
+            for (Participant participant : slots) {
+                if (participant != null)
+                    participant.reset(reviveCount);
             }
 
-            int reviveCount = plugin.getConfig().getInt("game.revives");
+            output.accept("Setting up players...");
 
-            Iterator<Advancement> advancementIterator = plugin.getServer().advancementIterator();
+            List<PlayerSetup> setups = new ArrayList<>();
             for (Player player : plugin.getServer().getOnlinePlayers()) {
 
                 Team team = null;
@@ -480,30 +753,7 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
                     team.addEntry(player.getName());
                     //finalHealth.getScore(player.getName()).setScore(20);
                     finalRevives.getScore(player.getName()).setScore(reviveCount);
-                    revives.put(player.getUniqueId(), reviveCount);
-
-                    player.spigot().respawn();
-                    player.teleport(location);
-                    player.setGameMode(GameMode.SURVIVAL);
-                    player.getInventory().clear();
-                    player.setTotalExperience(0);
-                    Utils.clearAdvancements(player, advancementIterator);
-                    player.removePotionEffect(PotionEffectType.NIGHT_VISION);
-                    player.setHealth(20);
-                    player.setFoodLevel(20);
-                    player.setSaturation(5);
-                    giveTrackingCompasses(player);
-
-                    if (team == finalRunnerTeam) {
-                        int pearlCount = pearls;
-                        if (pearlsRemainder > 0) {
-                            pearlsRemainder--;
-                            pearlCount++;
-                        }
-                        if (pearlCount > 0) {
-                            player.getInventory().addItem(new ItemStack(Material.ENDER_PEARL, pearlCount));
-                        }
-                    }
+                    setups.add(new PlayerSetup(player, location));
                 }
 
                 else {
@@ -512,15 +762,26 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
 
             }
 
+            return setUpPlayers(setups).whenComplete((v, e) -> {
+                for (Chunk chunk : spawnChunks)
+                    chunk.removePluginChunkTicket(plugin);
+            });
+
+        }).thenRun(() -> {
+
             time = 0;
             netherEntryTime = -1;
-            overworld.setTime(0);
-            nether.setTime(0);
-            end.setTime(0);
+            events.clear();
+            for (World world : getWorlds()) {
+                if (world != null)
+                    world.setTime(0);
+            }
+            rules.start(this);
             running = true;
+            plugin.getClock().register(this);
             output.accept("Complete!");
 
-        }).exceptionally(e -> {
+        }).whenComplete((v, e) -> starting = false).exceptionally(e -> {
             output.accept("ERROR: " + e);
             e.printStackTrace();
             return null;
@@ -528,8 +789,93 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
         return true;
     }
 
-    protected int getStartingPearlCount() {
-        return 0;
+    /**
+     * A participant waiting to be set up at the start of a manhunt
+     *
+     * @param player Player
+     * @param location Spawn location
+     */
+    private record PlayerSetup(Player player, Location location) {}
+
+    /**
+     * Loads the chunks around the given locations and keeps them loaded with a plugin chunk ticket
+     *
+     * @param radius Radius in chunks
+     * @param centers Locations
+     * @return Future list of loaded chunks, the caller must remove the tickets
+     */
+    private CompletableFuture<List<Chunk>> loadSpawnAreas(int radius, Location... centers) {
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>();
+        for (Location center : centers) {
+            int centerX = center.getBlockX() >> 4, centerZ = center.getBlockZ() >> 4;
+            for (int x = centerX - radius; x <= centerX + radius; x++) {
+                for (int z = centerZ - radius; z <= centerZ + radius; z++) {
+                    futures.add(center.getWorld().getChunkAtAsync(x, z, true).thenApply(chunk -> {
+                        chunk.addPluginChunkTicket(plugin);
+                        return chunk;
+                    }));
+                }
+            }
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(v -> {
+            List<Chunk> chunks = new ArrayList<>(futures.size());
+            for (CompletableFuture<Chunk> future : futures)
+                chunks.add(future.join());
+            return chunks;
+        });
+    }
+
+    /**
+     * Resets and teleports participants a batch at a time, one batch per tick
+     *
+     * @param setups Participants
+     * @return Future completed once every participant has arrived at their spawn location
+     */
+    private CompletableFuture<Void> setUpPlayers(List<PlayerSetup> setups) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        List<CompletableFuture<?>> arrivals = new ArrayList<>(setups.size());
+        int batchSize = settings.getStartBatchSize();
+        Iterator<Advancement> advancementIterator = plugin.getServer().advancementIterator();
+
+        new BukkitRunnable() {
+
+            private int index = 0;
+
+            @Override
+            public void run() {
+                for (int i = 0; i < batchSize && index < setups.size(); i++, index++) {
+                    PlayerSetup setup = setups.get(index);
+                    Player player = setup.player();
+                    if (!player.isOnline())
+                        continue;
+
+                    player.spigot().respawn();
+                    player.setGameMode(GameMode.SURVIVAL);
+                    player.getInventory().clear();
+                    player.setTotalExperience(0);
+                    Utils.clearAdvancements(player, advancementIterator);
+                    player.removePotionEffect(PotionEffectType.NIGHT_VISION);
+                    player.setHealth(20);
+                    player.setFoodLevel(20);
+                    player.setSaturation(5);
+
+                    arrivals.add(player.teleportAsync(setup.location()).thenAccept(teleported -> giveTrackingCompasses(player)));
+                }
+
+                if (index >= setups.size()) {
+                    cancel();
+                    CompletableFuture.allOf(arrivals.toArray(new CompletableFuture[0])).whenComplete((v, e) -> {
+                        if (e != null)
+                            future.completeExceptionally(e);
+                        else
+                            future.complete(null);
+                    });
+                }
+            }
+
+        }.runTaskTimer(plugin, 0, 1);
+        return future;
     }
 
     /**
@@ -561,7 +907,7 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
             return false;
         won = true;
         setPaused(true);
-        broadcast(plugin.getConfigString("game." + team + "-win"));
+        broadcast(team.equals("hunters") ? settings.getHuntersWin() : settings.getRunnersWin());
         return true;
     }
 
@@ -575,64 +921,20 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
             return false;
 
         running = false;
+        plugin.getClock().unregister(this);
+        hud.hide();
 
         return true;
     }
 
-    @Override
-    public void run() {
-        if (!isRunning())
-            return;
-
-        int grace = getGraceRemaining();
-        String graceWarning = null;
-        if (grace % 20 == 0) {
-            graceWarning = plugin.getConfigString("game.grace-warnings." + grace / 20);
-            if (graceWarning != null)
-                graceWarning = plugin.getConfigString("game.combat-grace-warning") + graceWarning;
-        }
-
-        int netherGrace = getNetherGraceRemaining();
-        String netherGraceWarning = null;
-        if (netherEntryTime >= 0 && netherGrace % 20 == 0) {
-            netherGraceWarning = plugin.getConfigString("game.grace-warnings." + netherGrace / 20);
-            if (netherGraceWarning != null)
-                netherGraceWarning = plugin.getConfigString("game.nether-grace-warning") + netherGraceWarning;
-        }
-
-        String actionbar = null;
-        String title = null;
-        if (time % 1 == 0) {
-            String time = Utils.formatTime(getTime());
-            String graceTime = Utils.formatTime(Math.max(grace, 0));
-            String netherGraceTime = Utils.formatTime(Math.max(netherGrace, 0));
-            actionbar = String.format(plugin.getConfigString("game.actionbar"),
-                    time, graceTime, netherGraceTime);
-            if (isPaused() && !won)
-                title = plugin.getConfigString("game.pause-title");
-        }
-
-        for (Player player : plugin.getServer().getOnlinePlayers()) {
-
-            if (!isPaused() && graceWarning != null)
-                player.sendMessage(graceWarning);
-            if (!isPaused() && netherGraceWarning != null)
-                player.sendMessage(netherGraceWarning);
-            if (actionbar != null)
-                player.sendActionBar(Component.text(actionbar));
-            if (title != null)
-                player.sendTitle(title, null, 0, 5, 0);
-
-            int invincibilityTime = getInvincibility(player.getUniqueId());
-            if (!isPaused() && invincibilityTime >= 0 && invincibilityTime % 20 == 0) {
-                String invincibilityWarning = plugin.getConfigString("game.invincibility-warnings." + invincibilityTime / 20);
-                if (invincibilityWarning != null) {
-                    invincibilityWarning = plugin.getConfigString("game.invincibility-warning") + invincibilityWarning;
-                    player.sendMessage(invincibilityWarning);
-                }
-            }
+    /**
+     * Advances this manhunt by one tick, called by the {@link ManhuntClock} while this manhunt is running
+     */
+    void tick() {
+        if (!isPaused())
+            events.advance(time);
 
-        }
+        hud.tick(isPaused() && !won);
 
         if (!isPaused())
             time++;
@@ -640,33 +942,23 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
 
     @Override
     public void onEntityDamage(EntityDamageEvent event) {
-        if (event.getEntity() instanceof Player) {
-            Player player = (Player) event.getEntity();
-
-            if (isRunning() && contains(player.getUniqueId())) {
-
-                if (getInvincibility(event.getEntity().getUniqueId()) >= 0)
-                    event.setCancelled(true);
-
-            }
-        }
+        if (isRunning() && contains(event.getEntity().getUniqueId()))
+            rules.dispatch(this, EntityDamageEvent.class, event);
     }
 
     @Override
     public void onEntityDamageByEntity(EntityDamageByEntityEvent event) {
         if (event.getEntity() instanceof Player && event.getDamager() instanceof Player) {
-            Player player = (Player) event.getEntity();
-            Player damager = (Player) event.getDamager();
 
-            if (isRunning() && contains(player.getUniqueId())) {
+            if (isRunning()) {
+
+                Participant victim = participants.get(event.getEntity().getUniqueId());
+                if (victim == null)
+                    return;
 
-                if (isGracePeriod() && isRunner(player.getUniqueId())
-                        || (isRunner(player.getUniqueId()) && isRunner(damager.getUniqueId()))
-                        || (isHunter(player.getUniqueId()) && isHunter(damager.getUniqueId()))
-                        || getInvincibility(damager.getUniqueId()) >= 0)
-                    event.setCancelled(true);
-                else
-                    lastHits.put(player.getUniqueId(), getTime());
+                rules.dispatch(this, EntityDamageByEntityEvent.class, event);
+                if (!event.isCancelled())
+                    victim.lastHit = getTime();
 
             }
         }
@@ -674,39 +966,28 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
 
     @Override
     public void onEntityDeath(EntityDeathEvent event) {
-
+        if (isRunning())
+            rules.dispatch(this, EntityDeathEvent.class, event);
     }
 
     @Override
     public void onPlayerDeath(PlayerDeathEvent event) {
         if (isRunning()) {
 
-            DropHolder dropHolder = new DropHolder(event.getEntity(), event.getDrops(), event.getDroppedExp());
-            drops.put(event.getEntity().getUniqueId(), dropHolder);
-
-            Integer lastHit = lastHits.get(event.getEntity().getUniqueId());
-            if (lastHit != null && getTime() - lastHit <= plugin.getConfig().getInt("game.combat-time") * 20) {
-
-                if (isHunter(event.getEntity().getUniqueId()) && hunters.size() < 2) {
-                    event.getDrops().clear();
-                    event.setDroppedExp(0);
-                }
-
-            } else if (getRevives(event.getEntity().getUniqueId()) > 0) {
-
-                event.getDrops().clear();
-                event.setDroppedExp(0);
-                canRevive.put(event.getEntity().getUniqueId(), true);
+            Participant participant = participants.get(event.getEntity().getUniqueId());
+            if (participant == null)
                 return;
 
-            }
+            participant.drops = new DropHolder(event.getEntity(), event.getDrops(), event.getDroppedExp());
+            rules.dispatch(this, PlayerDeathEvent.class, event);
 
-            if (isRunner(event.getEntity().getUniqueId())) {
-                broadcast(String.format(plugin.getConfigString("game.runner-killed"), event.getEntity().getName()));
+            // a player waiting to be revived is not eliminated
+            if (participant.runner && !participant.canRevive) {
+                broadcast(String.format(settings.getRunnerKilled(), event.getEntity().getName()));
                 spectate(event.getEntity());
 
                 runnersEliminated++;
-                if (runnersEliminated >= runners.size())
+                if (runnersEliminated >= runnerCount)
                     win("hunters");
             }
 
@@ -723,18 +1004,7 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
                 event.setRespawnLocation(getSpawnLocation(event.getPlayer().getUniqueId()));
             }
 
-            Integer revives = getRevives(event.getPlayer().getUniqueId());
-            if (revives != null && revives > 0 && canRevive.getOrDefault(event.getPlayer().getUniqueId(), false)) {
-                canRevive.remove(event.getPlayer().getUniqueId());
-                plugin.getServer().getScheduler().runTask(plugin, () -> {
-                    if (isHunter(event.getPlayer().getUniqueId())) {
-                        plugin.getReviveGUI().open(event.getPlayer(), this);
-                    } else {
-                        revive(event.getPlayer());
-                        event.getPlayer().sendMessage(String.format(plugin.getConfigString("revive-gui.remaining"), revives - 1));
-                    }
-                });
-            }
+            rules.dispatch(this, PlayerRespawnEvent.class, event);
 
         }
     }
@@ -744,11 +1014,11 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
         switch (cause) {
 
             case NETHER_PORTAL:
-                to.setWorld(inOverworld ? nether : overworld);
+                to.setWorld(inOverworld ? getNether() : overworld);
                 break;
             case END_PORTAL:
                 if (inOverworld)
-                    to.setWorld(end);
+                    to.setWorld(getEnd());
                 else if (!(entity instanceof Player)) {
                     to.setWorld(overworld);
                     Location s = overworld.getSpawnLocation();
@@ -761,15 +1031,19 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
 
     @Override
     public void onPlayerPortal(PlayerPortalEvent event) {
-        if (isRunning() && event.getCause() == PlayerTeleportEvent.TeleportCause.NETHER_PORTAL) {
-            if (isRunner(event.getPlayer().getUniqueId())) {
-                setNetherEntryTime();
-            } else if (isHunter(event.getPlayer().getUniqueId()) && isNetherGracePeriod()) {
-                event.setCancelled(true);
-                event.getPlayer().sendMessage(plugin.getConfigString("game.nether-entry-deny"));
+        if (isRunning()) {
+            rules.dispatch(this, PlayerPortalEvent.class, event);
+
+            // the end will probably be needed soon after someone reaches the nether
+            int endDelay = settings.getEndCreationDelay();
+            if (!event.isCancelled() && event.getCause() == PlayerTeleportEvent.TeleportCause.NETHER_PORTAL
+                    && end == null && !endScheduled && endDelay >= 0) {
+                endScheduled = true;
+                prepareDimension(2, endDelay);
             }
         }
-        handlePortalTeleport(event.getPlayer(), event.getFrom(), event.getTo(), event.getCause());
+        if (!event.isCancelled())
+            handlePortalTeleport(event.getPlayer(), event.getFrom(), event.getTo(), event.getCause());
     }
 
     @Override
@@ -780,6 +1054,13 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
         handlePortalTeleport(event.getEntity(), event.getFrom(), event.getTo(), cause);
     }
 
+    @Override
+    public void onPortalCreate(PortalCreateEvent event) {
+        if (isRunning() && nether == null && event.getReason() == PortalCreateEvent.CreateReason.FIRE
+                && event.getWorld() == overworld)
+            prepareDimension(1, 1);
+    }
+
     @Override
     public void onPlayerJoin(PlayerJoinEvent event) {
         if (isRunning() && !contains(event.getPlayer().getUniqueId()))
@@ -788,7 +1069,8 @@ public class AbstractManhunt extends BukkitRunnable implements ManhuntEventHandl
 
     @Override
     public void onPlayerAdvancementDone(PlayerAdvancementDoneEvent event) {
-
+        if (isRunning())
+            rules.dispatch(this, PlayerAdvancementDoneEvent.class, event);
     }
 
 }
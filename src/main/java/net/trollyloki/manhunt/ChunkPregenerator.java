@@ -0,0 +1,284 @@
+package net.trollyloki.manhunt;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Generates the chunks around manhunt spawn locations in the background, throttled by the server's tick time,
+ * and scans each generated chunk for structures
+ */
+public class ChunkPregenerator implements Runnable, Listener {
+
+    private static final int SKIPS_PER_CHUNK = 64; // spiral positions that may be skipped per chunk of the tick budget
+
+    /**
+     * Walks chunk coordinates in a square spiral out from a center chunk
+     */
+    private static class Spiral {
+
+        private final int centerX, centerZ;
+        private int x = 0, z = 0, dx = 0, dz = -1;
+
+        private Spiral(int centerX, int centerZ) {
+            this.centerX = centerX;
+            this.centerZ = centerZ;
+        }
+
+        private int ring() {
+            return Math.max(Math.abs(x), Math.abs(z));
+        }
+
+        private void advance() {
+            if (x == z || (x < 0 && x == -z) || (x > 0 && x == 1 - z)) {
+                int t = dx;
+                dx = -dz;
+                dz = t;
+            }
+            x += dx;
+            z += dz;
+        }
+
+    }
+
+    /**
+     * Pre-generation progress for a single world
+     */
+    public static class Job {
+
+        private final World world;
+        private final Consumer<Chunk> onGenerated;
+        private final int minX, minZ, width;
+        private final BitSet visited;
+        private final List<Spiral> spirals = new ArrayList<>();
+        private int nextSpiral = 0;
+        private int inFlight = 0, completed = 0;
+
+        private Job(World world, Consumer<Chunk> onGenerated, int centerX, int centerZ, int radius) {
+            this.world = world;
+            this.onGenerated = onGenerated;
+            this.minX = centerX - radius;
+            this.minZ = centerZ - radius;
+            this.width = radius * 2 + 1;
+            this.visited = new BitSet(width * width);
+        }
+
+        /**
+         * Gets the world being pre-generated
+         *
+         * @return World
+         */
+        public World getWorld() {
+            return world;
+        }
+
+        /**
+         * Gets the number of chunks that have been generated
+         *
+         * @return Number of chunks
+         */
+        public int getCompleted() {
+            return completed;
+        }
+
+        /**
+         * Gets the total number of chunks to generate
+         *
+         * @return Number of chunks
+         */
+        public int getTotal() {
+            return width * width;
+        }
+
+        /**
+         * Gets the fraction of chunks that have been generated
+         *
+         * @return Progress from 0 to 1
+         */
+        public double getProgress() {
+            return (double) completed / getTotal();
+        }
+
+        /**
+         * Checks if every chunk has been requested
+         *
+         * @return {@code true} if no chunks are left to request
+         */
+        public boolean isDone() {
+            return spirals.isEmpty();
+        }
+
+        private void setCenters(Location... centers) {
+            spirals.clear();
+            nextSpiral = 0;
+            for (Location center : centers) {
+                if (center != null && center.getWorld() == world) { // clamped so no spiral starts outside the square
+                    int x = Math.min(Math.max(center.getBlockX() >> 4, minX), minX + width - 1);
+                    int z = Math.min(Math.max(center.getBlockZ() >> 4, minZ), minZ + width - 1);
+                    spirals.add(new Spiral(x, z));
+                }
+            }
+        }
+
+        /**
+         * Requests the next chunk that has not been requested yet,
+         * giving up after skipping the given number of spiral positions outside the square or already requested
+         *
+         * @param maxSkips Maximum number of positions to skip
+         * @return Number of positions skipped, a chunk was requested if this is less than {@code maxSkips}
+         *         and the job is not done
+         */
+        private int requestNext(int maxSkips) {
+            int skipped = 0;
+            while (!spirals.isEmpty() && skipped < maxSkips) {
+                if (nextSpiral >= spirals.size())
+                    nextSpiral = 0;
+                Spiral spiral = spirals.get(nextSpiral);
+
+                // once a spiral has passed every edge of the square it can not find any more chunks
+                if (spiral.ring() > width) {
+                    spirals.remove(nextSpiral);
+                    continue;
+                }
+
+                int x = spiral.centerX + spiral.x, z = spiral.centerZ + spiral.z;
+                spiral.advance();
+                nextSpiral++;
+
+                int i = x - minX, j = z - minZ;
+                if (i < 0 || j < 0 || i >= width || j >= width || visited.get(i * width + j)) {
+                    skipped++;
+                    continue;
+                }
+                visited.set(i * width + j);
+
+                inFlight++;
+                world.getChunkAtAsync(x, z, true).whenComplete((chunk, e) -> {
+                    inFlight--;
+                    if (e == null) {
+                        completed++;
+                        onGenerated.accept(chunk);
+                    }
+                });
+                return skipped;
+            }
+            return skipped;
+        }
+
+    }
+
+    private final ManhuntPlugin plugin;
+    private final Map<World, Job> jobs = new IdentityHashMap<>();
+    private BukkitTask task;
+
+    /**
+     * Constructs a new chunk pre-generator
+     *
+     * @param plugin Plugin
+     */
+    public ChunkPregenerator(ManhuntPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Starts pre-generating the chunks of a world in spirals out from the given centers.
+     * If the world is already being pre-generated, the spirals are restarted from the new centers
+     * without generating any chunk twice.
+     *
+     * @param world World
+     * @param centers Centers
+     */
+    public void start(World world, Location... centers) {
+        ManhuntSettings settings = plugin.getSettings();
+        if (!settings.isPregenerationEnabled())
+            return;
+        if (world.getEnvironment() == World.Environment.THE_END && !settings.isPregenerateEnd())
+            return;
+
+        Job job = jobs.get(world);
+        if (job == null) {
+            int radius = settings.getPregenerationRadius();
+            if (world.getEnvironment() == World.Environment.NETHER)
+                radius /= 8;
+            Location center = world.getWorldBorder().getCenter();
+            job = new Job(world, chunk -> plugin.getStructureLocator().scan(chunk), center.getBlockX() >> 4, center.getBlockZ() >> 4, Math.max(radius >> 4, 0));
+            jobs.put(world, job);
+        }
+        job.setCenters(centers);
+
+        if (task == null)
+            task = plugin.getServer().getScheduler().runTaskTimer(plugin, this, 1, 1);
+    }
+
+    /**
+     * Stops pre-generating a world
+     *
+     * @param world World
+     */
+    public void stop(World world) {
+        jobs.remove(world);
+    }
+
+    /**
+     * Gets the pre-generation job for a world
+     *
+     * @param world World
+     * @return Job, or {@code null} if the world is not being pre-generated
+     */
+    public Job getJob(World world) {
+        return jobs.get(world);
+    }
+
+    /**
+     * Gets all pre-generation jobs
+     *
+     * @return Unmodifiable collection of jobs
+     */
+    public Collection<Job> getJobs() {
+        return Collections.unmodifiableCollection(jobs.values());
+    }
+
+    @Override
+    public void run() {
+        jobs.values().removeIf(job -> job.isDone() && job.inFlight == 0);
+        if (jobs.isEmpty()) {
+            task.cancel();
+            task = null;
+            return;
+        }
+
+        ManhuntSettings settings = plugin.getSettings();
+        if (settings.isPregenerationPausedWithPlayers()
+                && !plugin.getServer().getOnlinePlayers().isEmpty())
+            return;
+        if (plugin.getServer().getAverageTickTime() > settings.getPregenerationMaxMspt())
+            return;
+
+        int budget = settings.getPregenerationChunksPerTick();
+        int maxInFlight = settings.getPregenerationMaxInFlight();
+        int skips = budget * SKIPS_PER_CHUNK; // skipped positions are cheap but not free, the rest is resumed next tick
+        for (Job job : jobs.values()) {
+            while (budget > 0 && skips > 0 && job.inFlight < maxInFlight && !job.isDone()) {
+                skips -= job.requestNext(skips);
+                if (skips > 0 && !job.isDone())
+                    budget--;
+            }
+            if (budget <= 0 || skips <= 0)
+                break;
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        stop(event.getWorld());
+    }
+
+}
@@ -0,0 +1,32 @@
+package net.trollyloki.manhunt;
+
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+
+/**
+ * Protects runners from hunters at the start of the game, with warnings before the grace period ends
+ */
+public class CombatGraceRule implements ManhuntRule {
+
+    @Override
+    public boolean isEnabled(ManhuntSettings settings) {
+        return settings.getCombatGrace() > 0;
+    }
+
+    @Override
+    public void subscribe(RuleTable table) {
+        table.on(EntityDamageByEntityEvent.class, this::onEntityDamageByEntity);
+    }
+
+    @Override
+    public void onStart(AbstractManhunt manhunt) {
+        ManhuntSettings settings = manhunt.getSettings();
+        manhunt.scheduleWarnings(settings.getCombatGraceWarnings(), settings.getCombatGrace(),
+                warning -> manhunt.forEachViewer(player -> player.sendMessage(warning)));
+    }
+
+    private void onEntityDamageByEntity(AbstractManhunt manhunt, EntityDamageByEntityEvent event) {
+        if (manhunt.isGracePeriod() && manhunt.isRunner(event.getEntity().getUniqueId()))
+            event.setCancelled(true);
+    }
+
+}
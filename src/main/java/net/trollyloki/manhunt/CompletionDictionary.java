@@ -0,0 +1,147 @@
+package net.trollyloki.manhunt;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable sorted set of completions, answering a case insensitive prefix query with a slice of one shared list
+ */
+public final class CompletionDictionary {
+
+    static final CompletionDictionary EMPTY = new CompletionDictionary(new String[0], new String[0]);
+
+    private final String[] keys; // lowercase, sorted
+    private final String[] values; // in the order of keys
+    private final List<String> valueList;
+
+    private CompletionDictionary(String[] keys, String[] values) {
+        this.keys = keys;
+        this.values = values;
+        this.valueList = Collections.unmodifiableList(Arrays.asList(values));
+    }
+
+    /**
+     * Creates a dictionary of the given completions
+     *
+     * @param completions Completions
+     * @return Dictionary
+     */
+    public static CompletionDictionary of(Collection<String> completions) {
+        String[] values = completions.stream().distinct()
+                .sorted((a, b) -> normalize(a).compareTo(normalize(b)))
+                .toArray(String[]::new);
+        String[] keys = new String[values.length];
+        for (int i = 0; i < values.length; i++)
+            keys[i] = normalize(values[i]);
+        return new CompletionDictionary(keys, values);
+    }
+
+    /**
+     * Creates a dictionary of the given completions
+     *
+     * @param completions Completions
+     * @return Dictionary
+     */
+    public static CompletionDictionary of(String... completions) {
+        return of(Arrays.asList(completions));
+    }
+
+    private static String normalize(String string) {
+        return string.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Gets all completions that start with the given prefix, ignoring case
+     *
+     * @param prefix Prefix
+     * @return Unmodifiable view of the matching completions
+     */
+    public List<String> complete(String prefix) {
+        prefix = normalize(prefix);
+        int from = lowerBound(prefix);
+        int to = from;
+        int high = keys.length;
+        while (to < high) {
+            int mid = (to + high) >>> 1;
+            if (keys[mid].startsWith(prefix))
+                to = mid + 1;
+            else
+                high = mid;
+        }
+        return valueList.subList(from, to);
+    }
+
+    private int lowerBound(String key) {
+        int low = 0, high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Gets all completions
+     *
+     * @return Unmodifiable list of completions
+     */
+    public List<String> getAll() {
+        return valueList;
+    }
+
+    /**
+     * Creates a copy of this dictionary with a completion added
+     *
+     * @param completion Completion
+     * @return New dictionary, or this dictionary if it already contains the completion
+     */
+    public CompletionDictionary with(String completion) {
+        String key = normalize(completion);
+        int index = lowerBound(key);
+        for (int i = index; i < keys.length && keys[i].equals(key); i++) {
+            if (values[i].equals(completion))
+                return this;
+        }
+
+        String[] newKeys = new String[keys.length + 1];
+        String[] newValues = new String[values.length + 1];
+        System.arraycopy(keys, 0, newKeys, 0, index);
+        System.arraycopy(values, 0, newValues, 0, index);
+        newKeys[index] = key;
+        newValues[index] = completion;
+        System.arraycopy(keys, index, newKeys, index + 1, keys.length - index);
+        System.arraycopy(values, index, newValues, index + 1, values.length - index);
+        return new CompletionDictionary(newKeys, newValues);
+    }
+
+    /**
+     * Creates a copy of this dictionary with a completion removed
+     *
+     * @param completion Completion
+     * @return New dictionary, or this dictionary if it does not contain the completion
+     */
+    public CompletionDictionary without(String completion) {
+        String key = normalize(completion);
+        for (int i = lowerBound(key); i < keys.length && keys[i].equals(key); i++) {
+            if (values[i].equals(completion)) {
+
+                String[] newKeys = new String[keys.length - 1];
+                String[] newValues = new String[values.length - 1];
+                System.arraycopy(keys, 0, newKeys, 0, i);
+                System.arraycopy(values, 0, newValues, 0, i);
+                System.arraycopy(keys, i + 1, newKeys, i, newKeys.length - i);
+                System.arraycopy(values, i + 1, newValues, i, newValues.length - i);
+                return new CompletionDictionary(newKeys, newValues);
+
+            }
+        }
+        return this;
+    }
+
+}
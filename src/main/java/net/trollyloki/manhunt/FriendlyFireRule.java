@@ -0,0 +1,22 @@
+package net.trollyloki.manhunt;
+
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+
+/**
+ * Prevents players from damaging their own team
+ */
+public class FriendlyFireRule implements ManhuntRule {
+
+    @Override
+    public void subscribe(RuleTable table) {
+        table.on(EntityDamageByEntityEvent.class, this::onEntityDamageByEntity);
+    }
+
+    private void onEntityDamageByEntity(AbstractManhunt manhunt, EntityDamageByEntityEvent event) {
+        Participant victim = manhunt.getParticipant(event.getEntity().getUniqueId());
+        Participant attacker = manhunt.getParticipant(event.getDamager().getUniqueId());
+        if (victim != null && attacker != null && victim.runner == attacker.runner)
+            event.setCancelled(true);
+    }
+
+}
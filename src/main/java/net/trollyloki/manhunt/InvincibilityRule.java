@@ -0,0 +1,32 @@
+package net.trollyloki.manhunt;
+
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+
+/**
+ * Makes revived players invincible for a while, during which they can not deal damage to other players either
+ */
+public class InvincibilityRule implements ManhuntRule {
+
+    @Override
+    public boolean isEnabled(ManhuntSettings settings) {
+        return settings.getInvincibility() > 0 && settings.getRevives() > 0;
+    }
+
+    @Override
+    public void subscribe(RuleTable table) {
+        table.on(EntityDamageEvent.class, this::onEntityDamage);
+        table.on(EntityDamageByEntityEvent.class, this::onEntityDamageByEntity);
+    }
+
+    private void onEntityDamage(AbstractManhunt manhunt, EntityDamageEvent event) {
+        if (manhunt.getInvincibility(event.getEntity().getUniqueId()) >= 0)
+            event.setCancelled(true);
+    }
+
+    private void onEntityDamageByEntity(AbstractManhunt manhunt, EntityDamageByEntityEvent event) {
+        if (manhunt.getInvincibility(event.getDamager().getUniqueId()) >= 0)
+            event.setCancelled(true);
+    }
+
+}
@@ -0,0 +1,26 @@
+package net.trollyloki.manhunt;
+
+import org.bukkit.event.entity.PlayerDeathEvent;
+
+/**
+ * Lets the only hunter keep their items when killed by a runner, so the game does not end in a single fight
+ */
+public class LastHunterRule implements ManhuntRule {
+
+    @Override
+    public void subscribe(RuleTable table) {
+        table.on(PlayerDeathEvent.class, this::onPlayerDeath);
+    }
+
+    private void onPlayerDeath(AbstractManhunt manhunt, PlayerDeathEvent event) {
+        Participant participant = manhunt.getParticipant(event.getEntity().getUniqueId());
+        if (participant == null || participant.runner || manhunt.getHunterCount() >= 2)
+            return;
+
+        if (manhunt.isInCombat(participant)) {
+            event.getDrops().clear();
+            event.setDroppedExp(0);
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+package net.trollyloki.manhunt;
+
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Arrays;
+
+/**
+ * Shared tick task that drives every running manhunt, only scheduled while at least one is registered.
+ * The {@link ManhuntEntityListener} is registered for the same time.
+ */
+public class ManhuntClock implements Runnable {
+
+    private static final AbstractManhunt[] EMPTY = new AbstractManhunt[0];
+
+    private final ManhuntPlugin plugin;
+    private final ManhuntEntityListener entityListener;
+    private AbstractManhunt[] manhunts = EMPTY;
+    private BukkitTask task;
+
+    /**
+     * Constructs a new manhunt clock
+     *
+     * @param plugin Plugin
+     */
+    public ManhuntClock(ManhuntPlugin plugin) {
+        this.plugin = plugin;
+        this.entityListener = new ManhuntEntityListener(plugin);
+    }
+
+    /**
+     * Registers a manhunt to be ticked by this clock
+     *
+     * @param manhunt Manhunt
+     * @return {@code true} if the manhunt was registered
+     */
+    public boolean register(AbstractManhunt manhunt) {
+        for (AbstractManhunt registered : manhunts) {
+            if (registered == manhunt)
+                return false;
+        }
+
+        manhunts = Arrays.copyOf(manhunts, manhunts.length + 1);
+        manhunts[manhunts.length - 1] = manhunt;
+        if (task == null) {
+            task = plugin.getServer().getScheduler().runTaskTimer(plugin, this, 1, 1);
+            entityListener.setRegistered(true);
+        }
+        return true;
+    }
+
+    /**
+     * Unregisters a manhunt from this clock
+     *
+     * @param manhunt Manhunt
+     * @return {@code true} if the manhunt was unregistered
+     */
+    public boolean unregister(AbstractManhunt manhunt) {
+        for (int i = 0; i < manhunts.length; i++) {
+            if (manhunts[i] == manhunt) {
+
+                AbstractManhunt[] remaining = new AbstractManhunt[manhunts.length - 1];
+                System.arraycopy(manhunts, 0, remaining, 0, i);
+                System.arraycopy(manhunts, i + 1, remaining, i, remaining.length - i);
+                manhunts = remaining;
+
+                if (manhunts.length == 0 && task != null) {
+                    task.cancel();
+                    task = null;
+                    entityListener.setRegistered(false);
+                }
+                return true;
+
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void run() {
+        // the array is replaced rather than modified, so manhunts may unregister while being ticked
+        for (AbstractManhunt manhunt : manhunts)
+            manhunt.tick();
+    }
+
+}
@@ -1,5 +1,8 @@
 package net.trollyloki.manhunt;
 
+import net.trollyloki.manhunt.command.CommandAction;
+import net.trollyloki.manhunt.command.CommandContext;
+import net.trollyloki.manhunt.command.CommandNode;
 import net.trollyloki.manhunt.compass.BastionCompassTarget;
 import net.trollyloki.manhunt.compass.CompassListener;
 import net.trollyloki.manhunt.compass.CompassTarget;
@@ -26,11 +29,14 @@ public class ManhuntCommand implements CommandExecutor, TabCompleter {
     private static final String RELOAD_PERM = "manhunt.reload", ADMIN_PERM = "manhunt.admin";
 
     private final ManhuntPlugin plugin;
-    private final HashMap<UUID, AbstractManhunt> manhunts = new HashMap<>();
+    private final ManhuntRegistry registry;
     private final HashMap<CommandSender, BukkitTask> resetConfirm = new HashMap<>();
+    private final CommandNode tree;
 
     public ManhuntCommand(ManhuntPlugin plugin) {
         this.plugin = plugin;
+        this.registry = plugin.getRegistry();
+        this.tree = buildTree();
     }
 
     /**
@@ -41,7 +47,7 @@ public class ManhuntCommand implements CommandExecutor, TabCompleter {
     public AbstractManhunt getManhuntAsOwner(CommandSender sender) {
         AbstractManhunt manhunt = null;
         if (sender instanceof Player)
-            manhunt = manhunts.get(((Player) sender).getUniqueId());
+            manhunt = registry.getOwned(((Player) sender).getUniqueId());
         if (manhunt == null) {
             // Check if user is a participant in a manhunt
             if (getManhuntAsMember(sender) != null)
@@ -64,15 +70,10 @@ public class ManhuntCommand implements CommandExecutor, TabCompleter {
         // Check if player is a participant in a manhunt
         // Owning a manhunt does not mean you are participating in the manhunt (yet)
         if (sender instanceof Player player) {
-            for (AbstractManhunt tempHunt : manhunts.values()) {
-                if (tempHunt.getPlayers().contains(player)) {
-                    manhunt = tempHunt;
-                    break;
-                }
-            }
+            manhunt = registry.getMembership(player.getUniqueId());
             // If they were not found, maybe they own a manhunt but just haven't added themselves yet
             if (manhunt == null)
-                manhunt = manhunts.get(player.getUniqueId());
+                manhunt = registry.getOwned(player.getUniqueId());
         }
 
         if (manhunt == null)
@@ -93,15 +94,10 @@ public class ManhuntCommand implements CommandExecutor, TabCompleter {
         // Check if player is a participant in a manhunt
         // Owning a manhunt does not mean you are participating in the manhunt (yet)
         if (sender instanceof Player player) {
-            for (AbstractManhunt tempHunt : manhunts.values()) {
-                if (tempHunt.getPlayers().contains(player)) {
-                    manhunt = tempHunt;
-                    break;
-                }
-            }
+            manhunt = registry.getMembership(player.getUniqueId());
             // If they were not found, maybe they own a manhunt but just haven't added themselves yet
             if (manhunt == null)
-                manhunt = manhunts.get(player.getUniqueId());
+                manhunt = registry.getOwned(player.getUniqueId());
         }
 
         return manhunt;
@@ -117,572 +113,431 @@ public class ManhuntCommand implements CommandExecutor, TabCompleter {
         AbstractManhunt manhunt = null;
         // Check if player is a participant in a manhunt
         // Owning a manhunt does not mean you are participating in the manhunt (yet)
-        if (sender instanceof Player player) {
-            for (AbstractManhunt tempHunt : manhunts.values()) {
-                if (tempHunt.getPlayers().contains(player)) {
-                    manhunt = tempHunt;
-                    break;
-                }
-            }
-        }
+        if (sender instanceof Player player)
+            manhunt = registry.getMembership(player.getUniqueId());
 
         return manhunt;
     }
 
+    /**
+     * Gets the root of the command tree, shared by execution and completion
+     *
+     * @return Root node
+     */
+    public CommandNode getTree() {
+        return tree;
+    }
 
+    private CommandNode buildTree() {
+        return CommandNode.literal("manhunt")
+
+                // Compass command - usable by anyone currently in a manhunt
+                // Only hunters and players with admin perms may obtain compasses
+                .then(CommandNode.literal("compass")
+                        .playersOnly("Only players can get tracking compasses")
+                        .then(CommandNode.literal("player")
+                                .then(CommandNode.argument("name", this::suggestRunners)
+                                        .executes(withManhunt(this::compassPlayer))))
+                        .then(CommandNode.literal("structure")
+                                .then(CommandNode.literal("fortress")
+                                        .executes(withManhunt((context, manhunt) ->
+                                                compassStructure(context, manhunt, new FortressCompassTarget()))))
+                                .then(CommandNode.literal("bastion")
+                                        .executes(withManhunt((context, manhunt) ->
+                                                compassStructure(context, manhunt, new BastionCompassTarget()))))))
+
+                // Reload command - usable by anyone with admin perms
+                .then(CommandNode.literal("reload")
+                        .requires(RELOAD_PERM, "You do not have permission to reload the config")
+                        .executes(this::reload))
+
+                // Create command - usable by anyone with admin perms
+                .then(CommandNode.literal("create")
+                        .playersOnly("Only players can create manhunts")
+                        .requires(ADMIN_PERM, "You do not have permission to create a manhunt")
+                        .usage("create <abstract|classic|advancement> [goal]")
+                        .then(CommandNode.literal("abstract")
+                                .executes(context -> create(context, new AbstractManhunt(plugin), "abstract")))
+                        .then(CommandNode.literal("classic")
+                                .executes(context -> create(context, new ClassicManhunt(plugin), "classic")))
+                        .then(CommandNode.literal("advancement")
+                                .executes(this::createAdvancement)
+                                .then(CommandNode.argument("goal",
+                                                (context, prefix) -> plugin.getTabCompleter().getAdvancementKeys().complete(prefix))
+                                        .executes(this::createAdvancement))))
+
+                // Add command - usable by anyone with admin perms currently in a manhunt, owner or not
+                .then(CommandNode.literal("add")
+                        .playersOnly("Only players can add players")
+                        .requires(ADMIN_PERM, "You do not have permission to add players")
+                        .usage("add <runner|hunter> <player>")
+                        .then(CommandNode.literal("runner")
+                                .then(CommandNode.argument("player", this::suggestOnline)
+                                        .executes(withManhunt((context, manhunt) -> add(context, manhunt, true)))))
+                        .then(CommandNode.literal("hunter")
+                                .then(CommandNode.argument("player", this::suggestOnline)
+                                        .executes(withManhunt((context, manhunt) -> add(context, manhunt, false))))))
+
+                // Remove command - usable by anyone with admin perms currently in a manhunt, owner or not
+                .then(CommandNode.literal("remove")
+                        .playersOnly("Only players can remove players")
+                        .requires(ADMIN_PERM, "You do not have permission to remove players")
+                        .then(CommandNode.argument("player", this::suggestRoster)
+                                .executes(withManhunt(this::remove))))
+
+                // Start command - only the owner may start manhunts
+                .then(CommandNode.literal("start")
+                        .playersOnly("Only players can start manhunts")
+                        .requires(ADMIN_PERM, "You do not have permission to start the manhunt")
+                        .executes(withOwnedManhunt(this::start)))
+
+                // Revive command - usable by anyone with admin perms currently in a manhunt, owner or not
+                .then(CommandNode.literal("revive")
+                        .playersOnly("Only players can revive players")
+                        .requires(ADMIN_PERM, "You do not have permission to revive players")
+                        .then(CommandNode.argument("player", this::suggestRoster)
+                                .executes(withManhunt(this::revive))))
+
+                // Pause command - usable by anyone with admin perms currently in a manhunt, owner or not
+                .then(CommandNode.literal("pause")
+                        .playersOnly("Only players can pause manhunts")
+                        .requires(ADMIN_PERM, "You do not have permission to pause the manhunt")
+                        .executes(withManhunt(this::pause)))
+
+                // Stop command - only the owner may stop manhunts
+                .then(CommandNode.literal("stop")
+                        .playersOnly("Only players can stop manhunts")
+                        .requires(ADMIN_PERM, "You do not have permission to stop the manhunt")
+                        .executes(withOwnedManhunt(this::stop)))
+
+                // Pool command - usable by anyone with admin perms
+                .then(CommandNode.literal("pool")
+                        .requires(ADMIN_PERM, "You do not have permission to view the world pool")
+                        .executes(this::pool))
+
+                // Pregen command - usable by anyone with admin perms
+                .then(CommandNode.literal("pregen")
+                        .requires(ADMIN_PERM, "You do not have permission to view chunk pre-generation")
+                        .executes(this::pregen))
+
+                // Reset command - usable by anyone with admin perms, replaces the worlds of the sender's own manhunt
+                // or restarts the server if they do not own one with worlds
+                .then(CommandNode.literal("reset")
+                        .requires(ADMIN_PERM, "You do not have permission to reset the world")
+                        .executes(this::reset));
+    }
 
-    @Override
-    public boolean onCommand(@NotNull CommandSender sender, @NotNull Command command, @NotNull String label, String[] args) {
-
-        if (args.length > 0) {
-
-            // Compass command - usable by anyone currently in a manhunt
-            // Only hunters and players with admin perms may obtain compasses
-            if (args[0].equalsIgnoreCase("compass")) {
-
-                if (!(sender instanceof Player player)) {
-                    sender.sendMessage(ChatColor.RED + "Only players can get tracking compasses");
-                    return false;
-                }
-
-                AbstractManhunt manhunt = getManhunt(sender);
-                if (manhunt != null) {
-
-                    if (args.length > 1 && args[1].equalsIgnoreCase("player")) {
-
-                        if (!sender.hasPermission(ADMIN_PERM) && !manhunt.isHunter(player.getUniqueId())) {
-                            sender.sendMessage(ChatColor.RED + "Only hunters can get player tracking compasses");
-                            return false;
-                        }
-
-                        if (args.length < 3) {
-                            sender.sendMessage(ChatColor.RED + "Usage: /" + label + " compass player <name>");
-                            return false;
-                        }
-
-                        Player target = plugin.getServer().getPlayerExact(args[2]);
-                        // If you have admin perms you can get compasses for hunters.
-                        // If not, you can only get them for runners.
-                        if (target == null || (!sender.hasPermission(ADMIN_PERM) && !manhunt.isRunner(target.getUniqueId()))) {
-                            sender.sendMessage(ChatColor.RED + "You can only get tracking compasses for runners");
-                            return false;
-                        }
-
-                        ItemStack compass = CompassListener.createCompassItem(new PlayerCompassTarget(target));
-                        CompassListener.updateCompass(compass, player.getLocation());
-
-                        if (!player.getInventory().addItem(compass).isEmpty())
-                            player.getWorld().dropItem(player.getLocation(), compass);
-                        sender.sendMessage(ChatColor.GREEN + "You have been given a tracking compass for " + target.getName());
-                        return true;
-
-                    } else if (args.length > 1 && args[1].equalsIgnoreCase("structure")) {
-
-                        if (!sender.hasPermission(ADMIN_PERM) && !manhunt.isRunner(player.getUniqueId())) {
-                            sender.sendMessage(ChatColor.RED + "Only runners can get structure tracking compasses");
-                            return false;
-                        }
-
-                        if (args.length > 2) {
-
-                            CompassTarget target = null;
-                            if (args[2].equalsIgnoreCase("fortress"))
-                                target = new FortressCompassTarget();
-                            else if (args[2].equalsIgnoreCase("bastion"))
-                                target = new BastionCompassTarget();
-
-                            if (target != null) {
-
-                                ItemStack compass = CompassListener.createCompassItem(target);
-                                CompassListener.updateCompass(compass, player.getLocation());
-
-                                if (!player.getInventory().addItem(compass).isEmpty())
-                                    player.getWorld().dropItem(player.getLocation(), compass);
-                                sender.sendMessage(ChatColor.GREEN + "You have been given a tracking compass for a " + target.getName());
-                                return true;
-
-                            }
-
-                        }
-
-                        sender.sendMessage(ChatColor.RED + "Usage: /" + label + " compass structure <fortress|bastion>");
-                        return false;
-
-                    } else {
-                        sender.sendMessage(ChatColor.RED + "Usage: /" + label + " compass <player|structure>");
-                        return false;
-                    }
-
-                }
-                return false;
-
-            }
-
-            // Reload command - usable by anyone with admin perms
-            else if (args[0].equalsIgnoreCase("reload")) {
-
-                if (!sender.hasPermission(RELOAD_PERM)) {
-                    sender.sendMessage(ChatColor.RED + "You do not have permission to reload the config");
-                    return false;
-                }
-
-                plugin.reloadConfig();
-                sender.sendMessage(ChatColor.GREEN + "The config has been reloaded");
-                return true;
-
-            }
-
-            // Create command - usable by anyone with admin perms
-            else if (args[0].equalsIgnoreCase("create")) {
-
-                if (!(sender instanceof Player player)) {
-                    sender.sendMessage(ChatColor.RED + "Only players can create manhunts");
-                    return false;
-                }
-
-                if (!sender.hasPermission(ADMIN_PERM)) {
-                    sender.sendMessage(ChatColor.RED + "You do not have permission to create a manhunt");
-                    return false;
-                }
-
-                if (args.length > 1) {
-
-                    if (args[1].equalsIgnoreCase("abstract")) {
-
-                        AbstractManhunt manhunt = new AbstractManhunt(plugin);
-                        manhunts.put(player.getUniqueId(), manhunt);
-                        sender.sendMessage(ChatColor.GREEN + "Created a new abstract manhunt");
-                        return true;
-
-                    } else if (args[1].equalsIgnoreCase("classic")) {
-
-                        ClassicManhunt manhunt = new ClassicManhunt(plugin);
-                        manhunts.put(player.getUniqueId(), manhunt);
-                        sender.sendMessage(ChatColor.GREEN + "Created a new classic manhunt");
-                        return true;
-
-                    } else if (args[1].equalsIgnoreCase("advancement")) {
-
-                        Advancement goal;
-                        if (args.length > 2) {
-                            NamespacedKey key = NamespacedKey.fromString(args[2]);
-                            if (key == null || (goal = plugin.getServer().getAdvancement(key)) == null) {
-                                sender.sendMessage(ChatColor.RED + "Invalid advancement key");
-                                return false;
-                            }
-                        } else {
-                            List<Advancement> list = getAdvancementList();
-                            goal = list.get((int) (Math.random() * list.size()));
-                        }
-                        AdvancementManhunt manhunt = new AdvancementManhunt(plugin, goal);
-                        manhunts.put(player.getUniqueId(), manhunt);
-                        sender.sendMessage(ChatColor.GREEN + "Created a new advancement manhunt (" + goal.getKey() + ")");
-                        return true;
-
-                    }
-
-                }
-
-                sender.sendMessage(ChatColor.RED + "Usage: /" + label + " create <abstract|classic|advancement> [goal]");
-                return false;
-
-            }
-
-            // Add command - usable by anyone with admin perms currently in a manhunt, owner or not
-            else if (args[0].equalsIgnoreCase("add")) {
-
-                if (!(sender instanceof Player)) {
-                    sender.sendMessage(ChatColor.RED + "Only players can add players");
-                    return false;
-                }
-
-                AbstractManhunt manhunt = getManhunt(sender);
-                if (manhunt != null) {
-
-                    if (!sender.hasPermission(ADMIN_PERM)) {
-                        sender.sendMessage(ChatColor.RED + "You do not have permission to add players");
-                        return false;
-                    }
-
-                    if (args.length > 2) {
-
-                        Player toAdd = plugin.getServer().getPlayerExact(args[2]);
-                        if (toAdd == null) {
-                            sender.sendMessage(ChatColor.RED + args[2] + " is not online");
-                            return false;
-                        }
-
-                        if (args[1].equalsIgnoreCase("runner")) {
-
-                            if (manhunt.addRunner(toAdd.getUniqueId())) {
-                                sender.sendMessage(ChatColor.GREEN + toAdd.getName() + " is now a runner");
-                                return true;
-                            } else {
-                                sender.sendMessage(ChatColor.RED + toAdd.getName() + " is already a runner");
-                                return false;
-                            }
-
-                        } else if (args[1].equalsIgnoreCase("hunter")) {
-
-                            if (manhunt.addHunter(toAdd.getUniqueId())) {
-                                sender.sendMessage(ChatColor.GREEN + toAdd.getName() + " is now a hunter");
-                                return true;
-                            } else {
-                                sender.sendMessage(ChatColor.RED + toAdd.getName() + " is already a hunter");
-                                return false;
-                            }
-
-                        }
-
-                    }
-
-                    sender.sendMessage(ChatColor.RED + "Usage: /" + label + " add <runner|hunter> <player>");
-                }
-                return false;
-
-            }
-
-            // Remove command - usable by anyone with admin perms currently in a manhunt, owner or not
-            else if (args[0].equalsIgnoreCase("remove")) {
-
-                if (!(sender instanceof Player)) {
-                    sender.sendMessage(ChatColor.RED + "Only players can remove players");
-                    return false;
-                }
-
-                AbstractManhunt manhunt = getManhunt(sender);
-                if (manhunt != null) {
-
-                    if (!sender.hasPermission(ADMIN_PERM)) {
-                        sender.sendMessage(ChatColor.RED + "You do not have permission to remove players");
-                        return false;
-                    }
+    /**
+     * Action that needs the manhunt of the sender
+     */
+    @FunctionalInterface
+    private interface ManhuntAction {
 
-                    if (args.length > 1) {
+        boolean run(CommandContext context, AbstractManhunt manhunt);
 
-                        Player toRemove = plugin.getServer().getPlayerExact(args[1]);
-                        if (toRemove == null) {
-                            sender.sendMessage(ChatColor.RED + args[1] + " is not online");
-                            return false;
-                        }
+    }
 
-                        if (manhunt.remove(toRemove.getUniqueId())) {
-                            sender.sendMessage(ChatColor.GREEN + toRemove.getName() + " was removed from the manhunt");
-                            return true;
-                        } else {
-                            sender.sendMessage(ChatColor.RED + toRemove.getName() + " is not in the manhunt");
-                            return false;
-                        }
+    private CommandAction withManhunt(ManhuntAction action) {
+        return context -> {
+            AbstractManhunt manhunt = getManhunt(context.getSender());
+            return manhunt != null && action.run(context, manhunt);
+        };
+    }
 
-                    }
+    private CommandAction withOwnedManhunt(ManhuntAction action) {
+        return context -> {
+            AbstractManhunt manhunt = getManhuntAsOwner(context.getSender());
+            return manhunt != null && action.run(context, manhunt);
+        };
+    }
 
-                    sender.sendMessage(ChatColor.RED + "Usage: /" + label + " remove <player>");
-                }
-                return false;
+    private List<String> suggestOnline(CommandContext context, String prefix) {
+        return registry.getSnapshot().getOnlineNames().complete(prefix);
+    }
 
-            }
+    private List<String> suggestRunners(CommandContext context, String prefix) {
+        if (!(context.getSender() instanceof Player player))
+            return Collections.emptyList();
+        RegistrySnapshot snapshot = registry.getSnapshot();
+        RegistrySnapshot.Roster roster = snapshot.getMembership(player.getUniqueId());
+        if (roster == null)
+            roster = snapshot.getOwned(player.getUniqueId());
+        return roster != null ? roster.runners().complete(prefix) : Collections.emptyList();
+    }
 
-            // Start command - only the owner may start manhunts
-            else if (args[0].equalsIgnoreCase("start")) {
-
-                if (!(sender instanceof Player)) {
-                    sender.sendMessage(ChatColor.RED + "Only players can start manhunts");
-                    return false;
-                }
-
-                AbstractManhunt manhunt = getManhuntAsOwner(sender);
-                if (manhunt != null) {
-
-                    if (!sender.hasPermission(ADMIN_PERM)) {
-                        sender.sendMessage(ChatColor.RED + "You do not have permission to start the manhunt");
-                        return false;
-                    }
-
-                    try {
-                        if (!manhunt.isRunning()) {
-                            sender.sendMessage(ChatColor.YELLOW + "Creating worlds...");
-                            plugin.getListener().registerManhunt(manhunt).thenAccept((b) -> {
-                                sender.sendMessage(ChatColor.YELLOW + "World creation complete! Starting manhunt...");
-                                manhunt.start(msg -> sender.sendMessage(ChatColor.YELLOW + msg));
-                                sender.sendMessage(ChatColor.GREEN + "Started the manhunt");
-                            });
-                            return true;
-                        } else {
-                            sender.sendMessage(ChatColor.RED + "The manhunt is already running");
-                            return false;
-                        }
-                    } catch (IllegalStateException e) {
-                        sender.sendMessage(ChatColor.RED + "Failed to start the manhunt: " + e.getMessage());
-                        return false;
-                    }
-
-                }
+    private List<String> suggestRoster(CommandContext context, String prefix) {
+        if (!(context.getSender() instanceof Player player))
+            return Collections.emptyList();
+        RegistrySnapshot.Roster roster = registry.getSnapshot().getOwned(player.getUniqueId());
+        return roster != null ? roster.players().complete(prefix) : Collections.emptyList();
+    }
 
-            }
+    private static void giveCompass(Player player, CompassTarget target) {
+        ItemStack compass = CompassListener.createCompassItem(target);
+        CompassListener.updateCompass(compass, player.getLocation());
 
-            // Revive command - usable by anyone with admin perms currently in a manhunt, owner or not
-            else if (args[0].equalsIgnoreCase("revive")) {
+        if (!player.getInventory().addItem(compass).isEmpty())
+            player.getWorld().dropItem(player.getLocation(), compass);
+    }
 
-                if (!(sender instanceof Player)) {
-                    sender.sendMessage(ChatColor.RED + "Only players can revive players");
-                    return false;
-                }
+    private boolean compassPlayer(CommandContext context, AbstractManhunt manhunt) {
+        Player player = context.getPlayer();
+        if (!player.hasPermission(ADMIN_PERM) && !manhunt.isHunter(player.getUniqueId())) {
+            context.reply(ChatColor.RED + "Only hunters can get player tracking compasses");
+            return false;
+        }
 
-                AbstractManhunt manhunt = getManhunt(sender);
-                if (manhunt != null) {
+        Player target = plugin.getServer().getPlayerExact(context.get("name"));
+        // If you have admin perms you can get compasses for hunters.
+        // If not, you can only get them for runners.
+        if (target == null || (!player.hasPermission(ADMIN_PERM) && !manhunt.isRunner(target.getUniqueId()))) {
+            context.reply(ChatColor.RED + "You can only get tracking compasses for runners");
+            return false;
+        }
 
-                    if (!sender.hasPermission(ADMIN_PERM)) {
-                        sender.sendMessage(ChatColor.RED + "You do not have permission to revive players");
-                        return false;
-                    }
+        giveCompass(player, new PlayerCompassTarget(target));
+        context.reply(ChatColor.GREEN + "You have been given a tracking compass for " + target.getName());
+        return true;
+    }
 
-                    if (args.length > 1) {
+    private boolean compassStructure(CommandContext context, AbstractManhunt manhunt, CompassTarget target) {
+        Player player = context.getPlayer();
+        if (!player.hasPermission(ADMIN_PERM) && !manhunt.isRunner(player.getUniqueId())) {
+            context.reply(ChatColor.RED + "Only runners can get structure tracking compasses");
+            return false;
+        }
 
-                        Player toRevive = plugin.getServer().getPlayerExact(args[1]);
-                        if (toRevive == null) {
-                            sender.sendMessage(ChatColor.RED + args[1] + " is not online");
-                            return false;
-                        }
+        giveCompass(player, target);
+        context.reply(ChatColor.GREEN + "You have been given a tracking compass for a " + target.getName());
+        return true;
+    }
 
-                        Integer remainingRevives = manhunt.revive(toRevive);
-                        if (remainingRevives != null) {
-                            sender.sendMessage(ChatColor.GREEN + toRevive.getName() + " was revived (" + remainingRevives + " revives remaining)");
-                            return true;
-                        } else {
-                            sender.sendMessage(ChatColor.RED + "Failed to revive " + toRevive.getName());
-                            return false;
-                        }
+    private boolean reload(CommandContext context) {
+        plugin.reloadConfig();
+        try {
+            plugin.reloadSettings();
+        } catch (IllegalArgumentException e) {
+            context.reply(ChatColor.RED + "Invalid config, keeping the previous game settings: " + e.getMessage());
+            return false;
+        }
+        plugin.getCompassUpdater().restart();
+        plugin.getWorldTemplate().restart();
+        plugin.getWorldPool().restart();
+        context.reply(ChatColor.GREEN + "The config has been reloaded");
+        return true;
+    }
 
-                    }
+    private boolean create(CommandContext context, AbstractManhunt manhunt, String type) {
+        registry.setOwned(context.getPlayer().getUniqueId(), manhunt);
+        context.reply(ChatColor.GREEN + "Created a new " + type + " manhunt");
+        return true;
+    }
 
-                    sender.sendMessage(ChatColor.RED + "Usage: /" + label + " revive <player>");
-                }
+    private boolean createAdvancement(CommandContext context) {
+        Advancement goal;
+        String goalKey = context.get("goal");
+        if (goalKey != null) {
+            NamespacedKey key = NamespacedKey.fromString(goalKey);
+            if (key == null || (goal = plugin.getServer().getAdvancement(key)) == null) {
+                context.reply(ChatColor.RED + "Invalid advancement key");
                 return false;
-
             }
+        } else {
+            List<Advancement> list = getAdvancementList();
+            goal = list.get((int) (Math.random() * list.size()));
+        }
+        AdvancementManhunt manhunt = new AdvancementManhunt(plugin, goal);
+        registry.setOwned(context.getPlayer().getUniqueId(), manhunt);
+        context.reply(ChatColor.GREEN + "Created a new advancement manhunt (" + goal.getKey() + ")");
+        return true;
+    }
 
-            // Pause command - usable by anyone with admin perms currently in a manhunt, owner or not
-            else if (args[0].equalsIgnoreCase("pause")) {
-
-                if (!(sender instanceof Player)) {
-                    sender.sendMessage(ChatColor.RED + "Only players can pause manhunts");
-                    return false;
-                }
-
-                AbstractManhunt manhunt = getManhunt(sender);
-                if (manhunt != null) {
-
-                    if (!sender.hasPermission(ADMIN_PERM)) {
-                        sender.sendMessage(ChatColor.RED + "You do not have permission to pause the manhunt");
-                        return false;
-                    }
-
-                    if (!manhunt.isPaused()) {
-                        manhunt.setPaused(true);
-                        sender.sendMessage(ChatColor.GREEN + "Paused the manhunt");
-                    } else {
-                        manhunt.setPaused(false);
-                        sender.sendMessage(ChatColor.GREEN + "Resumed the manhunt");
-                    }
-
-                    return true;
-                }
-
-            }
-
-            // Stop command - only the owner may stop manhunts
-            else if (args[0].equalsIgnoreCase("stop")) {
-
-                if (!(sender instanceof Player)) {
-                    sender.sendMessage(ChatColor.RED + "Only players can stop manhunts");
-                    return false;
-                }
-
-                AbstractManhunt manhunt = getManhuntAsOwner(sender);
-                if (manhunt != null) {
-
-                    if (!sender.hasPermission(ADMIN_PERM)) {
-                        sender.sendMessage(ChatColor.RED + "You do not have permission to stop the manhunt");
-                        return false;
-                    }
+    private boolean add(CommandContext context, AbstractManhunt manhunt, boolean runner) {
+        String name = context.get("player");
+        Player toAdd = plugin.getServer().getPlayerExact(name);
+        if (toAdd == null) {
+            context.reply(ChatColor.RED + name + " is not online");
+            return false;
+        }
 
-                    if (manhunt.stop()) {
-                        plugin.getListener().unregisterManhunt(manhunt);
-                        manhunts.values().removeIf(m -> m == manhunt);
-                        sender.sendMessage(ChatColor.GREEN + "Stopped the manhunt");
-                        return true;
-                    } else {
-                        sender.sendMessage(ChatColor.RED + "The manhunt is not running");
-                        return false;
-                    }
+        AbstractManhunt current = plugin.getRegistry().getMembership(toAdd.getUniqueId());
+        if (current != null && current != manhunt && current.isRunning()) {
+            context.reply(ChatColor.RED + toAdd.getName() + " is playing in another manhunt");
+            return false;
+        }
 
-                }
+        String team = runner ? "runner" : "hunter";
+        if (runner ? manhunt.addRunner(toAdd.getUniqueId()) : manhunt.addHunter(toAdd.getUniqueId())) {
+            context.reply(ChatColor.GREEN + toAdd.getName() + " is now a " + team);
+            return true;
+        } else {
+            context.reply(ChatColor.RED + toAdd.getName() + " is already a " + team);
+            return false;
+        }
+    }
 
-            }
+    private boolean remove(CommandContext context, AbstractManhunt manhunt) {
+        String name = context.get("player");
+        Player toRemove = plugin.getServer().getPlayerExact(name);
+        if (toRemove == null) {
+            context.reply(ChatColor.RED + name + " is not online");
+            return false;
+        }
 
-            // Reset command - usable by anyone with admin perms
-            // COMPLETELY USELESS
-            else if (args[0].equalsIgnoreCase("reset")) {
-
-                if (!sender.hasPermission(ADMIN_PERM)) {
-                    sender.sendMessage(ChatColor.RED + "You do not have permission to reset the world");
-                    return false;
-                }
-
-                if (resetConfirm.containsKey(sender)) {
-                    resetConfirm.remove(sender).cancel();
-                    plugin.resetWorld();
-                    sender.sendMessage(ChatColor.GREEN + "Resetting the world...");
-                } else {
-                    BukkitTask task = plugin.getServer().getScheduler().runTaskLater(plugin,
-                            () -> resetConfirm.remove(sender), 600);
-                    resetConfirm.put(sender, task);
-                    sender.sendMessage(ChatColor.GOLD + "" + ChatColor.BOLD + "WARNING!"
-                            + ChatColor.YELLOW + " This will delete the current world and "
-                            + ChatColor.RED + ChatColor.BOLD + "CANNOT BE UNDONE!"
-                            + ChatColor.YELLOW + " Type " + ChatColor.GOLD + "/" + label + " reset"
-                            + ChatColor.YELLOW + " again within 30 seconds to confirm you want to reset the world.");
-                }
+        if (manhunt.remove(toRemove.getUniqueId())) {
+            context.reply(ChatColor.GREEN + toRemove.getName() + " was removed from the manhunt");
+            return true;
+        } else {
+            context.reply(ChatColor.RED + toRemove.getName() + " is not in the manhunt");
+            return false;
+        }
+    }
 
+    private boolean start(CommandContext context, AbstractManhunt manhunt) {
+        CommandSender sender = context.getSender();
+        try {
+            if (!manhunt.isRunning()) {
+                sender.sendMessage(ChatColor.YELLOW + "Creating worlds...");
+                plugin.getListener().registerManhunt(manhunt).thenAccept((b) -> {
+                    sender.sendMessage(ChatColor.YELLOW + "World creation complete! Starting manhunt...");
+                    manhunt.start(msg -> sender.sendMessage(ChatColor.YELLOW + msg));
+                    sender.sendMessage(ChatColor.GREEN + "Started the manhunt");
+                });
                 return true;
-
+            } else {
+                sender.sendMessage(ChatColor.RED + "The manhunt is already running");
+                return false;
             }
-
+        } catch (IllegalStateException e) {
+            sender.sendMessage(ChatColor.RED + "Failed to start the manhunt: " + e.getMessage());
+            return false;
         }
-
-        String help = "compass";
-        if (sender.hasPermission(RELOAD_PERM))
-            help += "|reload";
-        if (sender.hasPermission(ADMIN_PERM))
-            help += "|create|add|remove|start|revive|pause|stop|reset";
-        sender.sendMessage(ChatColor.RED + "Usage: /" + label + " <" + help + ">");
-        return false;
-
     }
 
-    @Override
-    public List<String> onTabComplete(@NotNull CommandSender sender, @NotNull Command command, @NotNull String label, String[] args) {
-
-        if (args.length > 1) {
-            AbstractManhunt manhunt;
-
-            if (args[0].equalsIgnoreCase("compass")) {
-
-                if (args.length == 2) {
-                    LinkedList<String> types = new LinkedList<>();
-                    types.add("player");
-                    types.add("structure");
-                    return Utils.filter(types, args[1]);
-                } else if (args.length == 3 && args[1].equalsIgnoreCase("player")) {
-
-                    if (sender instanceof Player player) {
-
-                        manhunt = getManhuntSilently(player);
-
-                        if (manhunt != null) {
-                            return Utils.filter(Utils.getNames(manhunt.getRunners()), args[2]);
-                        }
-
-                    }
-
-                } else if (args.length == 3 && args[1].equalsIgnoreCase("structure")) {
-
-                    LinkedList<String> types = new LinkedList<>();
-                    types.add("fortress");
-                    types.add("bastion");
-                    return Utils.filter(types, args[2]);
-
-                }
-
-            }
-
-            if (args[0].equalsIgnoreCase("create")) {
-
-                if (sender.hasPermission(ADMIN_PERM)) {
-
-                    if (args.length == 2) {
-                        LinkedList<String> types = new LinkedList<>();
-                        types.add("abstract");
-                        types.add("classic");
-                        types.add("advancement");
-                        return Utils.filter(types, args[1]);
-                    } else if (args.length == 3 && args[1].equalsIgnoreCase("advancement")) {
-                        return Utils.filter(Utils.getKeys(getAdvancementList()), args[2]);
-                    }
-
-                }
-
-            }
-
-            else if (args[0].equalsIgnoreCase("add")) {
-
-                if (sender.hasPermission(ADMIN_PERM)) {
-
-                    if (args.length == 2) {
-                        LinkedList<String> teams = new LinkedList<>();
-                        teams.add("runner");
-                        teams.add("hunter");
-                        return Utils.filter(teams, args[1]);
-                    } else if (args.length == 3) {
-                        return Utils.filter(Utils.getNames(plugin.getServer().getOnlinePlayers()), args[2]);
-                    }
+    private boolean revive(CommandContext context, AbstractManhunt manhunt) {
+        String name = context.get("player");
+        Player toRevive = plugin.getServer().getPlayerExact(name);
+        if (toRevive == null) {
+            context.reply(ChatColor.RED + name + " is not online");
+            return false;
+        }
 
-                }
+        Integer remainingRevives = manhunt.revive(toRevive);
+        if (remainingRevives != null) {
+            context.reply(ChatColor.GREEN + toRevive.getName() + " was revived (" + remainingRevives + " revives remaining)");
+            return true;
+        } else {
+            context.reply(ChatColor.RED + "Failed to revive " + toRevive.getName());
+            return false;
+        }
+    }
 
-            }
+    private boolean pause(CommandContext context, AbstractManhunt manhunt) {
+        if (!manhunt.isPaused()) {
+            manhunt.setPaused(true);
+            context.reply(ChatColor.GREEN + "Paused the manhunt");
+        } else {
+            manhunt.setPaused(false);
+            context.reply(ChatColor.GREEN + "Resumed the manhunt");
+        }
+        return true;
+    }
 
-            else if (args[0].equalsIgnoreCase("remove")
-                    || args[0].equalsIgnoreCase("revive")) {
+    private boolean stop(CommandContext context, AbstractManhunt manhunt) {
+        if (manhunt.stop()) {
+            plugin.getListener().unregisterManhunt(manhunt);
+            registry.unregister(manhunt);
+            context.reply(ChatColor.GREEN + "Stopped the manhunt");
+            return true;
+        } else {
+            context.reply(ChatColor.RED + "The manhunt is not running");
+            return false;
+        }
+    }
 
-                if (sender.hasPermission(ADMIN_PERM) && sender instanceof Player
-                        && (manhunt = manhunts.get(((Player) sender).getUniqueId())) != null) {
+    private boolean pool(CommandContext context) {
+        WorldPool pool = plugin.getWorldPool();
+        context.reply(ChatColor.GREEN + "World pool: " + pool.size() + "/" + pool.getTargetSize()
+                + " ready, " + pool.getCreated() + " created ("
+                + String.format("%.1f", pool.getCreatedPerHour()) + " per hour), "
+                + String.format("%.1f", pool.getAverageCreationMillis() / 1000.0) + "s average to create a set");
+        return true;
+    }
 
-                    if (args.length == 2) {
-                        return Utils.filter(Utils.getNames(manhunt.getPlayers()), args[1]);
-                    }
+    private boolean pregen(CommandContext context) {
+        Collection<ChunkPregenerator.Job> jobs = plugin.getPregenerator().getJobs();
+        if (jobs.isEmpty()) {
+            context.reply(ChatColor.GREEN + "No worlds are being pre-generated");
+            return true;
+        }
+        for (ChunkPregenerator.Job job : jobs) {
+            context.reply(ChatColor.GREEN + job.getWorld().getName() + ": "
+                    + String.format("%.1f%%", job.getProgress() * 100)
+                    + " (" + job.getCompleted() + "/" + job.getTotal() + " chunks)");
+        }
+        return true;
+    }
 
-                }
+    private boolean reset(CommandContext context) {
+        CommandSender sender = context.getSender();
+        AbstractManhunt manhunt = sender instanceof Player player ? registry.getOwned(player.getUniqueId()) : null;
+        if (manhunt != null && !plugin.getListener().getManhunts().contains(manhunt))
+            manhunt = null; // no worlds to replace
 
-            }
+        if (manhunt != null && manhunt.isStarting()) {
+            sender.sendMessage(ChatColor.RED + "The manhunt is starting, wait for it to start first");
+            return false;
+        }
 
+        if (resetConfirm.containsKey(sender)) {
+            resetConfirm.remove(sender).cancel();
+            if (manhunt != null)
+                recycle(sender, manhunt);
+            else if (plugin.resetWorld())
+                sender.sendMessage(ChatColor.GREEN + "Resetting the world...");
+        } else {
+            BukkitTask task = plugin.getServer().getScheduler().runTaskLater(plugin,
+                    () -> resetConfirm.remove(sender), 600);
+            resetConfirm.put(sender, task);
+            sender.sendMessage(ChatColor.GOLD + "" + ChatColor.BOLD + "WARNING!"
+                    + ChatColor.YELLOW + " This will delete the current " + (manhunt != null ? "manhunt worlds" : "world")
+                    + " and "
+                    + ChatColor.RED + ChatColor.BOLD + "CANNOT BE UNDONE!"
+                    + ChatColor.YELLOW + " Type " + ChatColor.GOLD + "/" + context.getLabel() + " reset"
+                    + ChatColor.YELLOW + " again within 30 seconds to confirm you want to reset the world.");
         }
+        return true;
+    }
 
-        else { // args.length <= 1
-
-            LinkedList<String> subcommands = new LinkedList<>();
-            subcommands.add("compass");
-            if (sender.hasPermission(RELOAD_PERM))
-                subcommands.add("reload");
-            if (sender.hasPermission(ADMIN_PERM)) {
-                subcommands.add("create");
-                subcommands.add("add");
-                subcommands.add("remove");
-                subcommands.add("start");
-                subcommands.add("revive");
-                subcommands.add("pause");
-                subcommands.add("stop");
-                subcommands.add("reset");
+    private void recycle(CommandSender sender, AbstractManhunt manhunt) {
+        if (manhunt.stop())
+            sender.sendMessage(ChatColor.YELLOW + "Stopped the manhunt");
+        sender.sendMessage(ChatColor.YELLOW + "Replacing the manhunt worlds...");
+        plugin.getListener().recycleWorlds(manhunt).whenComplete((recycled, e) -> {
+            if (e != null) {
+                plugin.getLogger().warning("Failed to recycle manhunt worlds: " + e);
+                sender.sendMessage(ChatColor.RED + "Failed to replace the manhunt worlds");
+            } else if (recycled) {
+                sender.sendMessage(ChatColor.GREEN + "Replaced the manhunt worlds");
+            } else {
+                sender.sendMessage(ChatColor.RED + "The manhunt worlds can not be replaced right now");
             }
+        });
+    }
 
-            if (args.length > 0)
-                Utils.filter(subcommands, args[0]);
-            return subcommands;
-
-        }
-
-        return new LinkedList<>();
+    @Override
+    public boolean onCommand(@NotNull CommandSender sender, @NotNull Command command, @NotNull String label, String[] args) {
+        return tree.dispatch(sender, label, args);
+    }
 
+    @Override
+    public List<String> onTabComplete(@NotNull CommandSender sender, @NotNull Command command, @NotNull String label, String[] args) {
+        // normally answered asynchronously before this is reached
+        return tree.complete(sender, args);
     }
 
     public List<Advancement> getAdvancementList() {
-        ArrayList<Advancement> list = new ArrayList<>();
-        Iterator<Advancement> iter = plugin.getServer().advancementIterator();
-        while (iter.hasNext()) {
-            Advancement advancement = iter.next();
-            if (!advancement.getKey().getKey().startsWith("recipes"))
-                list.add(advancement);
-        }
-        return list;
+        return Utils.getGoalAdvancements(plugin.getServer());
     }
 
 }
@@ -0,0 +1,81 @@
+package net.trollyloki.manhunt;
+
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.*;
+
+/**
+ * Forwards high volume entity events to the manhunt in the entity's world.
+ * Only registered by the {@link ManhuntClock} while at least one manhunt is running,
+ * so worlds full of mobs cost nothing the rest of the time.
+ */
+public class ManhuntEntityListener implements Listener {
+
+    private final ManhuntPlugin plugin;
+    private boolean registered = false;
+
+    /**
+     * Constructs a new manhunt entity listener
+     *
+     * @param plugin Plugin
+     */
+    public ManhuntEntityListener(ManhuntPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Registers or unregisters this listener
+     *
+     * @param registered {@code true} to register
+     */
+    void setRegistered(boolean registered) {
+        if (registered == this.registered)
+            return;
+        this.registered = registered;
+
+        if (registered)
+            plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        else
+            HandlerList.unregisterAll(this);
+    }
+
+    private AbstractManhunt getManhunt(World world) {
+        return plugin.getListener().getManhunt(world);
+    }
+
+    @EventHandler(ignoreCancelled = true)
+    public void onEntityDamage(EntityDamageEvent event) {
+        if (!(event.getEntity() instanceof Player))
+            return;
+        AbstractManhunt manhunt = getManhunt(event.getEntity().getWorld());
+        if (manhunt != null)
+            manhunt.onEntityDamage(event);
+    }
+
+    @EventHandler(ignoreCancelled = true)
+    public void onEntityDamageByEntity(EntityDamageByEntityEvent event) {
+        if (!(event.getEntity() instanceof Player) || !(event.getDamager() instanceof Player))
+            return;
+        AbstractManhunt manhunt = getManhunt(event.getEntity().getWorld());
+        if (manhunt != null)
+            manhunt.onEntityDamageByEntity(event);
+    }
+
+    @EventHandler(ignoreCancelled = true)
+    public void onEntityDeath(EntityDeathEvent event) {
+        AbstractManhunt manhunt = getManhunt(event.getEntity().getWorld());
+        if (manhunt != null)
+            manhunt.onEntityDeath(event);
+    }
+
+    @EventHandler(ignoreCancelled = true)
+    public void onPlayerDeath(PlayerDeathEvent event) {
+        AbstractManhunt manhunt = getManhunt(event.getEntity().getWorld());
+        if (manhunt != null)
+            manhunt.onPlayerDeath(event);
+    }
+
+}
@@ -0,0 +1,134 @@
+package net.trollyloki.manhunt;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.kyori.adventure.title.Title;
+import org.bukkit.entity.Player;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Renders the action bar and pause title of a manhunt to its players and spectators
+ */
+class ManhuntHud {
+
+    /**
+     * Ticks between renders, the displayed time only changes once per second
+     */
+    private static final int RENDER_INTERVAL = 20;
+    /**
+     * Ticks after which an unchanged action bar is sent again, before the client fades it out
+     */
+    private static final int KEEP_ALIVE_INTERVAL = 40;
+    private static final String[] PLACEHOLDERS = {"\uE000", "\uE001", "\uE002"};
+    private static final Title.Times PAUSE_TITLE_TIMES = Title.Times.times(Duration.ZERO, Duration.ofHours(1), Duration.ZERO);
+
+    private final AbstractManhunt manhunt;
+
+    private int ticks = 0;
+    private int lastSent = 0;
+
+    private String format;
+    private Component template;
+
+    private final String[] values = new String[PLACEHOLDERS.length];
+    private Component actionbar;
+
+    private boolean pauseTitleShown = false;
+
+    /**
+     * Constructs a new HUD for the given manhunt
+     *
+     * @param manhunt Manhunt
+     */
+    ManhuntHud(AbstractManhunt manhunt) {
+        this.manhunt = manhunt;
+    }
+
+    /**
+     * Compiles an action bar format into a component with a placeholder for each {@code %s}
+     *
+     * @param format Format, with color codes already translated
+     * @return Component template
+     */
+    private static Component compile(String format) {
+        String[] parts = format.split("%s", -1);
+        StringBuilder builder = new StringBuilder(parts[0]);
+        for (int i = 1; i < parts.length; i++) {
+            if (i <= PLACEHOLDERS.length)
+                builder.append(PLACEHOLDERS[i - 1]);
+            builder.append(parts[i]);
+        }
+        return LegacyComponentSerializer.legacySection().deserialize(builder.toString());
+    }
+
+    /**
+     * Renders the HUD, called once per tick
+     *
+     * @param showPauseTitle Whether the pause title should be shown
+     */
+    void tick(boolean showPauseTitle) {
+        if (showPauseTitle != pauseTitleShown) {
+            pauseTitleShown = showPauseTitle;
+            if (showPauseTitle) {
+                Title title = Title.title(LegacyComponentSerializer.legacySection().deserialize(manhunt.getSettings().getPauseTitle()),
+                        Component.empty(), PAUSE_TITLE_TIMES);
+                manhunt.forEachViewer(player -> player.showTitle(title));
+            } else {
+                manhunt.forEachViewer(Player::clearTitle);
+            }
+        }
+
+        if (ticks++ % RENDER_INTERVAL != 0)
+            return;
+
+        boolean changed = false;
+
+        String format = manhunt.getSettings().getActionbar();
+        if (!Objects.equals(format, this.format)) {
+            this.format = format;
+            this.template = format != null ? compile(format) : null;
+            changed = true;
+        }
+        if (template == null)
+            return;
+
+        changed |= setValue(0, Utils.formatTime(manhunt.getTime()));
+        changed |= setValue(1, Utils.formatTime(Math.max(manhunt.getGraceRemaining(), 0)));
+        changed |= setValue(2, Utils.formatTime(Math.max(manhunt.getNetherGraceRemaining(), 0)));
+
+        if (changed) {
+            Component component = template;
+            for (int i = 0; i < PLACEHOLDERS.length; i++) {
+                String placeholder = PLACEHOLDERS[i], value = values[i];
+                component = component.replaceText(builder -> builder.matchLiteral(placeholder).replacement(value));
+            }
+            actionbar = component;
+        } else if (ticks - lastSent < KEEP_ALIVE_INTERVAL) {
+            return;
+        }
+
+        lastSent = ticks;
+        Component finalActionbar = actionbar;
+        manhunt.forEachViewer(player -> player.sendActionBar(finalActionbar));
+    }
+
+    /**
+     * Clears the pause title if it is being shown
+     */
+    void hide() {
+        if (pauseTitleShown) {
+            pauseTitleShown = false;
+            manhunt.forEachViewer(Player::clearTitle);
+        }
+    }
+
+    private boolean setValue(int index, String value) {
+        if (value.equals(values[index]))
+            return false;
+        values[index] = value;
+        return true;
+    }
+
+}
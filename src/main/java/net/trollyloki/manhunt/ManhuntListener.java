@@ -5,17 +5,22 @@ import net.trollyloki.manhunt.types.DummyEventHandler;
 import net.trollyloki.manhunt.types.ManhuntEventHandler;
 import org.bukkit.*;
 import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.entity.*;
 import org.bukkit.event.player.*;
+import org.bukkit.event.world.PortalCreateEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.CompassMeta;
-import org.bukkit.scheduler.BukkitRunnable;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -27,6 +32,7 @@ public class ManhuntListener implements Listener {
     private final ManhuntPlugin plugin;
     private final NamespacedKey targetKey;
     private final HashMap<UUID, AbstractManhunt> manhunts;
+    private final IdentityHashMap<World, AbstractManhunt> worlds;
 
     /**
      * Constructs a new manhunt listener
@@ -37,49 +43,69 @@ public class ManhuntListener implements Listener {
         this.plugin = plugin;
         this.targetKey = new NamespacedKey(plugin, "target");
         this.manhunts = new HashMap<>();
+        this.worlds = new IdentityHashMap<>();
     }
 
-    private static final String[] WORLD_NAMES = {
+    static final String[] WORLD_NAMES = {
             "%s", "%s_nether", "%s_the_end"
     };
-    private static final World.Environment[] ENVIRONMENTS = {
+    static final World.Environment[] ENVIRONMENTS = {
             World.Environment.NORMAL, World.Environment.NETHER, World.Environment.THE_END
     };
+
     /**
-     * Creates a new overworld, nether, and end; while causing as little lag as possible
+     * Creates a new overworld on a later tick, the nether and end are created by {@link #createDimension} once needed.
+     * If the world template is ready, all three are copied from it first.
      *
+     * @param name World name
+     * @return Future [Overworld, null, null]
      */
     public CompletableFuture<World[]> createWorlds(String name) {
         final CompletableFuture<World[]> future = new CompletableFuture<>();
-        BukkitRunnable runnable = new BukkitRunnable() {
-
-                private final World[] worlds = new World[3];
-                private int i = 0;
-
-                @Override
-                public void run() {
-                    if (i >= 3) {
-                        future.complete(worlds);
-                        cancel();
-                    } else {
-                        World world = plugin.getServer().createWorld(
-                                new WorldCreator(String.format(WORLD_NAMES[i], name))
-                                        .environment(ENVIRONMENTS[i])
-                        );
-                        world.setKeepSpawnInMemory(false);
-                        worlds[i] = world;
-                    }
-
-                    i++;
-                }
-
-        };
-        runnable.runTaskTimer(plugin, 10, 10);
+        plugin.getWorldTemplate().copyTo(name).whenComplete((v, e) -> {
+            if (e != null) {
+                future.completeExceptionally(e);
+                return;
+            }
+            plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+                World[] worlds = new World[3];
+                worlds[0] = createWorld(name, 0);
+                future.complete(worlds);
+            }, 10);
+        });
         return future;
     }
 
     /**
-     * Registers a manhunt and creates the associated worlds.
+     * Creates a dimension of a registered manhunt
+     *
+     * @param manhunt Manhunt
+     * @param dimension 1 for the nether, 2 for the end
+     * @return World
+     */
+    World createDimension(AbstractManhunt manhunt, int dimension) {
+        UUID uuid = getUUID(manhunt);
+        if (uuid == null)
+            throw new IllegalStateException("Manhunt is not registered");
+
+        World world = createWorld(uuid.toString(), dimension);
+        worlds.put(world, manhunt);
+        return world;
+    }
+
+    private World createWorld(String name, int dimension) {
+        World world = plugin.getServer().createWorld(
+                new WorldCreator(String.format(WORLD_NAMES[dimension], name))
+                        .environment(ENVIRONMENTS[dimension])
+        );
+        world.setKeepSpawnInMemory(false);
+        if (!plugin.getWorldTemplate().isReady()) // copies already have the template's pre-generated chunks
+            plugin.getPregenerator().start(world, world.getSpawnLocation());
+        return world;
+    }
+
+    /**
+     * Registers a manhunt and creates the associated worlds, taking them from the world pool if any are ready.
      *
      * @param manhunt Manhunt
      * @return {@code true} if the manhunt was registered
@@ -87,11 +113,25 @@ public class ManhuntListener implements Listener {
     public CompletableFuture<Boolean> registerManhunt(AbstractManhunt manhunt) {
         if (manhunts.containsValue(manhunt))
             return CompletableFuture.completedFuture(false);
-        UUID uuid = UUID.randomUUID();
 
-        return createWorlds(uuid.toString()).thenApply(worlds -> {
+        CompletableFuture<WorldPool.Worlds> future;
+        WorldPool.Worlds pooled = plugin.getWorldPool().poll();
+        if (pooled != null) {
+            future = CompletableFuture.completedFuture(pooled);
+        } else {
+            UUID uuid = UUID.randomUUID();
+            future = createWorlds(uuid.toString()).thenApply(worlds -> new WorldPool.Worlds(uuid, worlds));
+        }
+
+        return future.thenApply(created -> {
+            UUID uuid = created.uuid();
+            World[] worlds = created.worlds();
             manhunt.setWorlds(worlds);
             manhunts.put(uuid, manhunt);
+            for (World world : worlds) {
+                if (world != null)
+                    this.worlds.put(world, manhunt);
+            }
             return true;
         });
     }
@@ -103,18 +143,12 @@ public class ManhuntListener implements Listener {
      * @return {@code true} if the manhunt was unregistered
      */
     public boolean unregisterManhunt(AbstractManhunt manhunt) {
-        UUID uuid = null;
-        for (Map.Entry<UUID, AbstractManhunt> entry : manhunts.entrySet()) {
-            if (entry.getValue() == manhunt) {
-                uuid = entry.getKey();
-                break;
-            }
-        }
-
+        UUID uuid = getUUID(manhunt);
         if (uuid != null) {
             manhunts.remove(uuid);
+            worlds.values().removeIf(m -> m == manhunt);
             Location spawn = plugin.getServer().getWorlds().get(0).getSpawnLocation();
-            manhunt.getPlayers().forEach(player -> player.teleport(spawn));
+            manhunt.forEachViewer(player -> player.teleport(spawn));
             manhunt.unload();
             return true;
         } else {
@@ -123,6 +157,57 @@ public class ManhuntListener implements Listener {
 
     }
 
+    /**
+     * Replaces the worlds of a registered manhunt that is neither running nor starting with new ones,
+     * taken from the world pool or copied from the template.
+     * Everyone in the old worlds waits in the main world during the swap, and members of the manhunt are moved to
+     * the new overworld afterwards.
+     *
+     * @param manhunt Manhunt
+     * @return {@code true} if the worlds were replaced
+     */
+    public CompletableFuture<Boolean> recycleWorlds(AbstractManhunt manhunt) {
+        if (manhunt.isRunning() || manhunt.isStarting() || getUUID(manhunt) == null)
+            return CompletableFuture.completedFuture(false);
+
+        List<Player> waiting = new ArrayList<>();
+        for (World world : manhunt.getWorlds()) {
+            if (world == null)
+                continue;
+            for (Player player : world.getPlayers()) {
+                if (manhunt.contains(player.getUniqueId()))
+                    waiting.add(player);
+            }
+        }
+
+        unregisterManhunt(manhunt);
+        return registerManhunt(manhunt).thenApply(registered -> {
+            Location spawn = manhunt.getWorlds()[0].getSpawnLocation();
+            for (Player player : waiting) {
+                if (player.isOnline())
+                    player.teleportAsync(spawn);
+            }
+            return registered;
+        });
+    }
+
+    /**
+     * Gets all registered manhunts.
+     *
+     * @return Unmodifiable collection of manhunts
+     */
+    public Collection<AbstractManhunt> getManhunts() {
+        return Collections.unmodifiableCollection(manhunts.values());
+    }
+
+    private UUID getUUID(AbstractManhunt manhunt) {
+        for (Map.Entry<UUID, AbstractManhunt> entry : manhunts.entrySet()) {
+            if (entry.getValue() == manhunt)
+                return entry.getKey();
+        }
+        return null;
+    }
+
     /**
      * Gets a manhunt by UUID.
      *
@@ -140,13 +225,7 @@ public class ManhuntListener implements Listener {
      * @return Manhunt
      */
     public AbstractManhunt getManhunt(World world) {
-        String name = world.getName();
-        if (name.length() < 36)
-            return null;
-        int i = name.indexOf('_');
-        if (i < 0)
-            i = name.length();
-        return getManhunt(UUID.fromString(name.substring(0, i)));
+        return worlds.get(world);
     }
 
     /**
@@ -160,26 +239,6 @@ public class ManhuntListener implements Listener {
         return manhunt != null ? manhunt : DUMMY_EVENT_HANDLER;
     }
 
-    @EventHandler
-    public void onEntityDamage(EntityDamageEvent event) {
-        getEventHandler(event.getEntity().getWorld()).onEntityDamage(event);
-    }
-
-    @EventHandler
-    public void onEntityDamageByEntity(EntityDamageByEntityEvent event) {
-        getEventHandler(event.getEntity().getWorld()).onEntityDamageByEntity(event);
-    }
-
-    @EventHandler
-    public void onEntityDeath(EntityDeathEvent event) {
-        getEventHandler(event.getEntity().getWorld()).onEntityDeath(event);
-    }
-
-    @EventHandler
-    public void onPlayerDeath(PlayerDeathEvent event) {
-        getEventHandler(event.getEntity().getWorld()).onPlayerDeath(event);
-    }
-
     @EventHandler
     public void onPlayerRespawn(PlayerRespawnEvent event) {
         getEventHandler(event.getPlayer().getWorld()).onPlayerRespawn(event);
@@ -190,11 +249,16 @@ public class ManhuntListener implements Listener {
         getEventHandler(event.getPlayer().getWorld()).onPlayerPortal(event);
     }
 
-    @EventHandler
+    @EventHandler(ignoreCancelled = true) // portals of every manhunt world, running or not, lead to its own dimensions
     public void onEntityPortal(EntityPortalEvent event) {
         getEventHandler(event.getEntity().getWorld()).onEntityPortal(event);
     }
 
+    @EventHandler
+    public void onPortalCreate(PortalCreateEvent event) {
+        getEventHandler(event.getWorld()).onPortalCreate(event);
+    }
+
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
         getEventHandler(event.getPlayer().getWorld()).onPlayerJoin(event);
@@ -1,8 +1,11 @@
 package net.trollyloki.manhunt;
 
 import net.trollyloki.manhunt.compass.CompassListener;
+import net.trollyloki.manhunt.compass.CompassUpdater;
+import net.trollyloki.manhunt.compass.StructureLocator;
 import org.bukkit.ChatColor;
 import org.bukkit.World;
+import org.bukkit.command.PluginCommand;
 import org.bukkit.configuration.Configuration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -21,16 +24,29 @@ public class ManhuntPlugin extends JavaPlugin {
     private File dataFile;
     private YamlConfiguration data;
 
+    private volatile ManhuntSettings settings;
+
+    private PlayerNameCache nameCache;
+    private ManhuntRegistry registry;
+    private ManhuntTabCompleter tabCompleter;
+    private ManhuntClock clock;
+    private WorldDeleter worldDeleter;
+    private ChunkPregenerator pregenerator;
     private ManhuntListener listener;
+    private WorldTemplate worldTemplate;
+    private WorldPool worldPool;
     private ReviveGUI reviveGUI;
 
     private CompassListener compassListener;
+    private StructureLocator structureLocator;
+    private CompassUpdater compassUpdater;
 
     @Override
     public void onEnable() {
         instance = this;
 
         saveDefaultConfig();
+        reloadSettings();
         resetFile = new File(getDataFolder(), "reset");
 
         List<World> worlds = getServer().getWorlds();
@@ -49,15 +65,36 @@ public class ManhuntPlugin extends JavaPlugin {
         }
         data = YamlConfiguration.loadConfiguration(dataFile);
 
+        this.nameCache = new PlayerNameCache(getServer());
+        this.registry = new ManhuntRegistry(this, nameCache);
+        getServer().getPluginManager().registerEvents(registry, this);
+        this.clock = new ManhuntClock(this);
+        this.worldDeleter = new WorldDeleter(this);
+        if (getConfig().getBoolean("teardown.sweep-on-startup"))
+            worldDeleter.sweep();
+        this.structureLocator = new StructureLocator(this);
+        getServer().getPluginManager().registerEvents(structureLocator, this);
+        this.pregenerator = new ChunkPregenerator(this);
+        getServer().getPluginManager().registerEvents(pregenerator, this);
         this.listener = new ManhuntListener(this);
         getServer().getPluginManager().registerEvents(listener, this);
+        this.worldTemplate = new WorldTemplate(this);
+        worldTemplate.restart();
+        this.worldPool = new WorldPool(this);
+        worldPool.restart();
         this.reviveGUI = new ReviveGUI(this);
         getServer().getPluginManager().registerEvents(reviveGUI, this);
 
         this.compassListener = new CompassListener(this);
         getServer().getPluginManager().registerEvents(compassListener, this);
+        this.compassUpdater = new CompassUpdater(this);
+        compassUpdater.restart();
 
-        getCommand("manhunt").setExecutor(new ManhuntCommand(this));
+        PluginCommand command = getCommand("manhunt");
+        ManhuntCommand executor = new ManhuntCommand(this);
+        command.setExecutor(executor);
+        this.tabCompleter = new ManhuntTabCompleter(this, command, executor);
+        getServer().getPluginManager().registerEvents(tabCompleter, this);
 
     }
 
@@ -65,6 +102,11 @@ public class ManhuntPlugin extends JavaPlugin {
     public void onDisable() {
         instance = null;
 
+        worldPool.shutdown();
+        worldDeleter.shutdown();
+        worldTemplate.shutdown();
+        structureLocator.saveIndex();
+
         try {
             data.save(dataFile);
         } catch (IOException e) {
@@ -77,7 +119,8 @@ public class ManhuntPlugin extends JavaPlugin {
     }
 
     /**
-     * Restarts the server and generates a new world
+     * Restarts the server and generates a new world,
+     * used by {@code /manhunt reset} when there are no manhunt worlds to replace in place
      *
      * @return {@code true} if the reset request was successful
      */
@@ -105,6 +148,25 @@ public class ManhuntPlugin extends JavaPlugin {
         return null;
     }
 
+    /**
+     * Reads the game settings from the config, replacing the current settings only if they are all valid.
+     * Manhunts keep the settings they started with.
+     *
+     * @throws IllegalArgumentException If a setting is missing or invalid
+     */
+    public void reloadSettings() {
+        settings = ManhuntSettings.load(getConfig());
+    }
+
+    /**
+     * Gets the current game settings
+     *
+     * @return Settings
+     */
+    public ManhuntSettings getSettings() {
+        return settings;
+    }
+
     /**
      * Gets the data configuration
      *
@@ -114,6 +176,60 @@ public class ManhuntPlugin extends JavaPlugin {
         return data;
     }
 
+    /**
+     * Gets the cache of player names
+     *
+     * @return Player name cache
+     */
+    public PlayerNameCache getNameCache() {
+        return nameCache;
+    }
+
+    /**
+     * Gets the tab completer of the manhunt command
+     *
+     * @return Tab completer
+     */
+    public ManhuntTabCompleter getTabCompleter() {
+        return tabCompleter;
+    }
+
+    /**
+     * Gets the registry of manhunt owners and members
+     *
+     * @return Manhunt registry
+     */
+    public ManhuntRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Gets the clock that ticks running manhunts
+     *
+     * @return Manhunt clock
+     */
+    public ManhuntClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Gets the background deleter for manhunt world folders
+     *
+     * @return World deleter
+     */
+    public WorldDeleter getWorldDeleter() {
+        return worldDeleter;
+    }
+
+    /**
+     * Gets the background chunk pre-generator
+     *
+     * @return Chunk pre-generator
+     */
+    public ChunkPregenerator getPregenerator() {
+        return pregenerator;
+    }
+
     /**
      * Gets the manhunt listener for this plugin
      *
@@ -123,6 +239,24 @@ public class ManhuntPlugin extends JavaPlugin {
         return listener;
     }
 
+    /**
+     * Gets the template that new manhunt worlds are copied from
+     *
+     * @return World template
+     */
+    public WorldTemplate getWorldTemplate() {
+        return worldTemplate;
+    }
+
+    /**
+     * Gets the pool of pre-created manhunt worlds
+     *
+     * @return World pool
+     */
+    public WorldPool getWorldPool() {
+        return worldPool;
+    }
+
     /**
      * Gets the revive GUI listener for this plugin
      *
@@ -132,4 +266,22 @@ public class ManhuntPlugin extends JavaPlugin {
         return reviveGUI;
     }
 
+    /**
+     * Gets the structure locator for this plugin
+     *
+     * @return Structure locator
+     */
+    public StructureLocator getStructureLocator() {
+        return structureLocator;
+    }
+
+    /**
+     * Gets the tracking compass auto-updater for this plugin
+     *
+     * @return Compass updater
+     */
+    public CompassUpdater getCompassUpdater() {
+        return compassUpdater;
+    }
+
 }
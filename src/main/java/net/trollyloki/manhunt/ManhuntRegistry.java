@@ -0,0 +1,209 @@
+package net.trollyloki.manhunt;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import org.bukkit.plugin.Plugin;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Tracks which manhunt each player owns and which manhunt each player is a member of.
+ * Changes are published to an immutable {@link RegistrySnapshot} on the next tick, for readers on other threads.
+ */
+public class ManhuntRegistry implements Listener {
+
+    private final HashMap<UUID, AbstractManhunt> owners = new HashMap<>();
+    private final HashMap<UUID, AbstractManhunt> members = new HashMap<>();
+    private final Plugin plugin;
+    private final PlayerNameCache nameCache;
+    private final Map<AbstractManhunt, RegistrySnapshot.Roster> rosters = new IdentityHashMap<>(); // only up to date ones
+    private CompletionDictionary onlineNames;
+    private volatile RegistrySnapshot snapshot = RegistrySnapshot.EMPTY;
+    private boolean publishScheduled = false;
+
+    /**
+     * Constructs a new manhunt registry
+     *
+     * @param plugin Plugin
+     * @param nameCache Name cache to fill with the names of joining players and evict when a manhunt ends
+     */
+    public ManhuntRegistry(Plugin plugin, PlayerNameCache nameCache) {
+        this.plugin = plugin;
+        this.nameCache = nameCache;
+        this.onlineNames = CompletionDictionary.of(Utils.getNames(plugin.getServer().getOnlinePlayers()));
+        changed();
+    }
+
+    /**
+     * Gets the latest published snapshot of this registry, which may be up to a tick behind
+     *
+     * @return Snapshot
+     */
+    public RegistrySnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Schedules a new snapshot to be published on the next tick, with the roster of the given manhunt copied again
+     *
+     * @param manhunt Manhunt whose roster changed, or {@code null} if none
+     */
+    void changed(AbstractManhunt manhunt) {
+        if (manhunt != null)
+            rosters.remove(manhunt);
+        changed();
+    }
+
+    /**
+     * Schedules a new snapshot to be published on the next tick, so a burst of changes is only copied once
+     */
+    void changed() {
+        if (publishScheduled || !plugin.isEnabled())
+            return;
+        publishScheduled = true;
+        plugin.getServer().getScheduler().runTask(plugin, this::publish);
+    }
+
+    private void publish() {
+        publishScheduled = false;
+
+        // unchanged rosters are reused, and rosters of forgotten manhunts are dropped
+        Map<AbstractManhunt, RegistrySnapshot.Roster> live = new IdentityHashMap<>();
+        Map<UUID, RegistrySnapshot.Roster> owned = new HashMap<>();
+        for (Map.Entry<UUID, AbstractManhunt> entry : owners.entrySet())
+            owned.put(entry.getKey(), live.computeIfAbsent(entry.getValue(), this::getRoster));
+        Map<UUID, RegistrySnapshot.Roster> memberships = new HashMap<>();
+        for (Map.Entry<UUID, AbstractManhunt> entry : members.entrySet())
+            memberships.put(entry.getKey(), live.computeIfAbsent(entry.getValue(), this::getRoster));
+        rosters.clear();
+        rosters.putAll(live);
+
+        snapshot = new RegistrySnapshot(onlineNames, Map.copyOf(owned), Map.copyOf(memberships));
+    }
+
+    private RegistrySnapshot.Roster getRoster(AbstractManhunt manhunt) {
+        RegistrySnapshot.Roster roster = rosters.get(manhunt);
+        if (roster != null)
+            return roster;
+        if (manhunt.getPlayers().isEmpty())
+            return RegistrySnapshot.Roster.EMPTY;
+        return new RegistrySnapshot.Roster(
+                CompletionDictionary.of(Utils.getNames(manhunt.getRunners())),
+                CompletionDictionary.of(Utils.getNames(manhunt.getPlayers()))
+        );
+    }
+
+    /**
+     * Gets the manhunt owned by the given player
+     *
+     * @param owner Owner
+     * @return Manhunt, or {@code null} if none
+     */
+    public AbstractManhunt getOwned(UUID owner) {
+        return owners.get(owner);
+    }
+
+    /**
+     * Sets the manhunt owned by the given player, forgetting the previous one if it is not running
+     *
+     * @param owner Owner
+     * @param manhunt Manhunt
+     */
+    public void setOwned(UUID owner, AbstractManhunt manhunt) {
+        AbstractManhunt previous = owners.put(owner, manhunt);
+        if (previous != null && previous != manhunt && !previous.isRunning())
+            unregister(previous);
+        changed();
+    }
+
+    /**
+     * Gets all owned manhunts
+     *
+     * @return Unmodifiable collection of manhunts
+     */
+    public Collection<AbstractManhunt> getOwnedManhunts() {
+        return Collections.unmodifiableCollection(owners.values());
+    }
+
+    /**
+     * Gets the manhunt the given player is a member of
+     *
+     * @param player Player
+     * @return Manhunt, or {@code null} if none
+     */
+    public AbstractManhunt getMembership(UUID player) {
+        return members.get(player);
+    }
+
+    /**
+     * Records that a player was added to a manhunt, removing them from the other manhunt they were in,
+     * which is never running since a player can not join while in a running manhunt
+     *
+     * @param manhunt Manhunt
+     * @param player Player
+     */
+    void memberAdded(AbstractManhunt manhunt, UUID player) {
+        AbstractManhunt previous = members.put(player, manhunt);
+        if (previous != null && previous != manhunt)
+            previous.remove(player);
+        changed(manhunt);
+    }
+
+    /**
+     * Records that a player was removed from a manhunt
+     *
+     * @param manhunt Manhunt
+     * @param player Player
+     */
+    void memberRemoved(AbstractManhunt manhunt, UUID player) {
+        members.remove(player, manhunt);
+        changed(manhunt);
+    }
+
+    /**
+     * Forgets the owner and all members of a manhunt, evicting the members' names from the name cache
+     *
+     * @param manhunt Manhunt
+     */
+    public void unregister(AbstractManhunt manhunt) {
+        owners.values().removeIf(m -> m == manhunt);
+        members.entrySet().removeIf(entry -> {
+            if (entry.getValue() != manhunt)
+                return false;
+            nameCache.evict(entry.getKey());
+            return true;
+        });
+        changed(manhunt);
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        nameCache.put(player);
+        AbstractManhunt manhunt = members.get(player.getUniqueId());
+        if (manhunt != null)
+            manhunt.updateOnline(player.getUniqueId(), player);
+        onlineNames = onlineNames.with(player.getName());
+        changed(manhunt);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        AbstractManhunt manhunt = members.get(event.getPlayer().getUniqueId());
+        if (manhunt != null)
+            manhunt.updateOnline(event.getPlayer().getUniqueId(), null);
+        onlineNames = onlineNames.without(event.getPlayer().getName());
+        changed(manhunt);
+    }
+
+}
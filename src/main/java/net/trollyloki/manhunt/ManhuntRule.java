@@ -0,0 +1,36 @@
+package net.trollyloki.manhunt;
+
+/**
+ * Independent game rule that manhunts are assembled from.
+ * A rule subscribes only to the events it needs, and a rule that does nothing with the current settings is left out
+ * of a manhunt's {@link RuleTable} entirely.
+ */
+public interface ManhuntRule {
+
+    /**
+     * Checks if this rule does anything with the given settings
+     *
+     * @param settings Settings
+     * @return {@code true} if this rule should be active
+     */
+    default boolean isEnabled(ManhuntSettings settings) {
+        return true;
+    }
+
+    /**
+     * Subscribes this rule's event handlers
+     *
+     * @param table Handler table of a manhunt
+     */
+    void subscribe(RuleTable table);
+
+    /**
+     * Called once every participant has arrived, right before the game timer starts
+     *
+     * @param manhunt Manhunt
+     */
+    default void onStart(AbstractManhunt manhunt) {
+
+    }
+
+}
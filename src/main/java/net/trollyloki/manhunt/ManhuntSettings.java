@@ -0,0 +1,363 @@
+package net.trollyloki.manhunt;
+
+import org.bukkit.ChatColor;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable snapshot of the game settings in the config, with times converted to ticks and messages translated
+ */
+public final class ManhuntSettings {
+
+    private final int maxDistance, spawnCandidates, spawnSearchBatches, spawnPreloadRadius, startBatchSize;
+    private final int endCreationDelay, worldborderRadius;
+    private final int combatGrace, netherGrace, combatTime, invincibility;
+    private final int pearls, revives;
+    private final List<String> combatGraceWarnings, netherGraceWarnings, invincibilityWarnings;
+    private final String netherEntryDeny, actionbar, pauseTitle;
+    private final String runnerKilled, huntersWin, runnersWin, advancementGoal, revivesRemaining;
+    private final ChatColor runnerColor, hunterColor;
+    private final String compassNamePrefix;
+    private final List<String> compassLore;
+    private final double compassUpdateDistance;
+    private final boolean pregenerationEnabled, pregenerateEnd, pregenerationPausedWithPlayers;
+    private final int pregenerationRadius, pregenerationChunksPerTick, pregenerationMaxInFlight;
+    private final double pregenerationMaxMspt;
+
+    private ManhuntSettings(ConfigurationSection config) {
+        this.maxDistance = getInt(config, "game.max-distance", 1);
+        this.spawnCandidates = getInt(config, "game.spawn-candidates", 1);
+        this.spawnSearchBatches = getInt(config, "game.spawn-search-batches", 1);
+        this.spawnPreloadRadius = getInt(config, "game.spawn-preload-radius", 0);
+        this.startBatchSize = getInt(config, "game.start-batch-size", 1);
+        this.endCreationDelay = getInt(config, "game.end-creation-delay", -1);
+        this.worldborderRadius = getInt(config, "game.worldborder-radius", 1);
+
+        this.combatGrace = getInt(config, "game.combat-grace", 0) * 20;
+        this.netherGrace = getInt(config, "game.nether-grace", 0) * 20;
+        this.combatTime = getInt(config, "game.combat-time", 0) * 20;
+        this.invincibility = getInt(config, "game.invincibility", 0) * 20;
+        this.pearls = getInt(config, "game.pearls", 0);
+        this.revives = getInt(config, "game.revives", 0);
+
+        this.combatGraceWarnings = getWarnings(config, "game.grace-warnings", getString(config, "game.combat-grace-warning"));
+        this.netherGraceWarnings = getWarnings(config, "game.grace-warnings", getString(config, "game.nether-grace-warning"));
+        this.invincibilityWarnings = getWarnings(config, "game.invincibility-warnings", getString(config, "game.invincibility-warning"));
+
+        this.netherEntryDeny = getString(config, "game.nether-entry-deny");
+        this.actionbar = getString(config, "game.actionbar");
+        this.pauseTitle = getString(config, "game.pause-title");
+        this.runnerKilled = getString(config, "game.runner-killed");
+        this.huntersWin = getString(config, "game.hunters-win");
+        this.runnersWin = getString(config, "game.runners-win");
+        this.advancementGoal = getString(config, "game.advancement-goal");
+        this.revivesRemaining = getString(config, "revive-gui.remaining");
+
+        this.runnerColor = getColor(config, "scoreboard.runner-color");
+        this.hunterColor = getColor(config, "scoreboard.hunter-color");
+
+        this.compassNamePrefix = getString(config, "tracking-compass.name-prefix");
+        this.compassLore = List.of(getString(config, "tracking-compass.lore"));
+        this.compassUpdateDistance = getDouble(config, "tracking-compass.update-distance", 0);
+
+        this.pregenerationEnabled = getBoolean(config, "pregeneration.enabled");
+        this.pregenerateEnd = getBoolean(config, "pregeneration.end");
+        this.pregenerationRadius = Math.min(getInt(config, "pregeneration.radius", 0), worldborderRadius);
+        this.pregenerationChunksPerTick = getInt(config, "pregeneration.chunks-per-tick", 1);
+        this.pregenerationMaxInFlight = getInt(config, "pregeneration.max-in-flight", 1);
+        this.pregenerationMaxMspt = getDouble(config, "pregeneration.max-mspt", 0);
+        this.pregenerationPausedWithPlayers = getBoolean(config, "pregeneration.pause-while-players-online");
+    }
+
+    /**
+     * Reads the game settings from a config
+     *
+     * @param config Config
+     * @return Settings
+     * @throws IllegalArgumentException If a setting is missing or invalid
+     */
+    public static ManhuntSettings load(ConfigurationSection config) {
+        return new ManhuntSettings(config);
+    }
+
+    private static int getInt(ConfigurationSection config, String path, int min) {
+        if (!config.isInt(path))
+            throw new IllegalArgumentException(path + " must be a whole number");
+        int value = config.getInt(path);
+        if (value < min)
+            throw new IllegalArgumentException(path + " must be at least " + min);
+        return value;
+    }
+
+    private static boolean getBoolean(ConfigurationSection config, String path) {
+        if (!config.isBoolean(path))
+            throw new IllegalArgumentException(path + " must be true or false");
+        return config.getBoolean(path);
+    }
+
+    private static double getDouble(ConfigurationSection config, String path, double min) {
+        if (!config.isDouble(path) && !config.isInt(path))
+            throw new IllegalArgumentException(path + " must be a number");
+        double value = config.getDouble(path);
+        if (value < min)
+            throw new IllegalArgumentException(path + " must be at least " + min);
+        return value;
+    }
+
+    private static String getString(ConfigurationSection config, String path) {
+        String string = config.getString(path);
+        if (string == null)
+            throw new IllegalArgumentException(path + " is missing");
+        return ChatColor.translateAlternateColorCodes('&', string);
+    }
+
+    private static ChatColor getColor(ConfigurationSection config, String path) {
+        String name = getString(config, path);
+        try {
+            return ChatColor.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(path + " is not a color: " + name);
+        }
+    }
+
+    /**
+     * Reads a warnings section keyed by seconds remaining into an array indexed by seconds remaining
+     *
+     * @param config Config
+     * @param path Path of the warnings section
+     * @param prefix Prefix of every warning
+     * @return Unmodifiable list of full warning messages, {@code null} where there is no warning
+     */
+    private static List<String> getWarnings(ConfigurationSection config, String path, String prefix) {
+        ConfigurationSection section = config.getConfigurationSection(path);
+        if (section == null)
+            return Collections.emptyList();
+
+        int max = -1;
+        for (String key : section.getKeys(false))
+            max = Math.max(max, parseSeconds(path, key));
+
+        String[] warnings = new String[max + 1];
+        for (String key : section.getKeys(false))
+            warnings[parseSeconds(path, key)] = prefix + getString(section, key);
+        return Collections.unmodifiableList(Arrays.asList(warnings));
+    }
+
+    private static int parseSeconds(String path, String key) {
+        try {
+            int seconds = Integer.parseInt(key);
+            if (seconds >= 0)
+                return seconds;
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IllegalArgumentException(path + "." + key + " must be keyed by a number of seconds");
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    public int getSpawnCandidates() {
+        return spawnCandidates;
+    }
+
+    public int getSpawnSearchBatches() {
+        return spawnSearchBatches;
+    }
+
+    public int getSpawnPreloadRadius() {
+        return spawnPreloadRadius;
+    }
+
+    public int getStartBatchSize() {
+        return startBatchSize;
+    }
+
+    /**
+     * Gets the delay after the first nether entry before the end is created
+     *
+     * @return Number of ticks, or {@code -1} to wait for an end portal
+     */
+    public int getEndCreationDelay() {
+        return endCreationDelay;
+    }
+
+    public int getWorldborderRadius() {
+        return worldborderRadius;
+    }
+
+    /**
+     * Gets the length of the combat grace period
+     *
+     * @return Number of ticks
+     */
+    public int getCombatGrace() {
+        return combatGrace;
+    }
+
+    /**
+     * Gets the length of the nether grace period
+     *
+     * @return Number of ticks
+     */
+    public int getNetherGrace() {
+        return netherGrace;
+    }
+
+    /**
+     * Gets how long after a hit a death still counts as a kill
+     *
+     * @return Number of ticks
+     */
+    public int getCombatTime() {
+        return combatTime;
+    }
+
+    /**
+     * Gets how long a revived player is invincible
+     *
+     * @return Number of ticks
+     */
+    public int getInvincibility() {
+        return invincibility;
+    }
+
+    public int getPearls() {
+        return pearls;
+    }
+
+    public int getRevives() {
+        return revives;
+    }
+
+    /**
+     * Gets the combat grace period warnings
+     *
+     * @return Unmodifiable list of messages indexed by seconds remaining, {@code null} where there is no warning
+     */
+    public List<String> getCombatGraceWarnings() {
+        return combatGraceWarnings;
+    }
+
+    /**
+     * Gets the nether grace period warnings
+     *
+     * @return Unmodifiable list of messages indexed by seconds remaining, {@code null} where there is no warning
+     */
+    public List<String> getNetherGraceWarnings() {
+        return netherGraceWarnings;
+    }
+
+    /**
+     * Gets the invincibility warnings
+     *
+     * @return Unmodifiable list of messages indexed by seconds remaining, {@code null} where there is no warning
+     */
+    public List<String> getInvincibilityWarnings() {
+        return invincibilityWarnings;
+    }
+
+    public String getNetherEntryDeny() {
+        return netherEntryDeny;
+    }
+
+    public String getActionbar() {
+        return actionbar;
+    }
+
+    public String getPauseTitle() {
+        return pauseTitle;
+    }
+
+    public String getRunnerKilled() {
+        return runnerKilled;
+    }
+
+    public String getHuntersWin() {
+        return huntersWin;
+    }
+
+    public String getRunnersWin() {
+        return runnersWin;
+    }
+
+    public String getAdvancementGoal() {
+        return advancementGoal;
+    }
+
+    public String getRevivesRemaining() {
+        return revivesRemaining;
+    }
+
+    public ChatColor getRunnerColor() {
+        return runnerColor;
+    }
+
+    public ChatColor getHunterColor() {
+        return hunterColor;
+    }
+
+    public String getCompassNamePrefix() {
+        return compassNamePrefix;
+    }
+
+    /**
+     * Gets the lore of tracking compasses
+     *
+     * @return Unmodifiable list of lines
+     */
+    public List<String> getCompassLore() {
+        return compassLore;
+    }
+
+    /**
+     * Gets how far a target has to move before a tracking compass is pointed at it again
+     *
+     * @return Number of blocks
+     */
+    public double getCompassUpdateDistance() {
+        return compassUpdateDistance;
+    }
+
+    public boolean isPregenerationEnabled() {
+        return pregenerationEnabled;
+    }
+
+    /**
+     * Checks if the end is pre-generated, which a manhunt rarely benefits from
+     *
+     * @return {@code true} if the end is pre-generated
+     */
+    public boolean isPregenerateEnd() {
+        return pregenerateEnd;
+    }
+
+    /**
+     * Gets how far from the world border center chunks are pre-generated, limited to the world border radius
+     *
+     * @return Number of blocks
+     */
+    public int getPregenerationRadius() {
+        return pregenerationRadius;
+    }
+
+    public int getPregenerationChunksPerTick() {
+        return pregenerationChunksPerTick;
+    }
+
+    public int getPregenerationMaxInFlight() {
+        return pregenerationMaxInFlight;
+    }
+
+    public double getPregenerationMaxMspt() {
+        return pregenerationMaxMspt;
+    }
+
+    public boolean isPregenerationPausedWithPlayers() {
+        return pregenerationPausedWithPlayers;
+    }
+
+}
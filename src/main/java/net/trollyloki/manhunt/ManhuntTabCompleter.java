@@ -0,0 +1,88 @@
+package net.trollyloki.manhunt;
+
+import com.destroystokyo.paper.event.server.AsyncTabCompleteEvent;
+import io.papermc.paper.event.server.ServerResourcesReloadedEvent;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.ServerLoadEvent;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Completes the manhunt command off the main thread by walking its command tree,
+ * whose suggestions only read the registry snapshot and other immutable dictionaries
+ */
+public class ManhuntTabCompleter implements Listener {
+
+    private final ManhuntPlugin plugin;
+    private final ManhuntCommand executor;
+    private final Set<String> labels = new HashSet<>();
+    private volatile CompletionDictionary advancementKeys;
+
+    /**
+     * Constructs a new manhunt tab completer
+     *
+     * @param plugin Plugin
+     * @param command Manhunt command
+     * @param executor Executor of the manhunt command, whose tree is used for completion
+     */
+    public ManhuntTabCompleter(ManhuntPlugin plugin, PluginCommand command, ManhuntCommand executor) {
+        this.plugin = plugin;
+        this.executor = executor;
+        String prefix = plugin.getName().toLowerCase(Locale.ROOT) + ":";
+        for (String label : command.getAliases()) {
+            labels.add(label.toLowerCase(Locale.ROOT));
+            labels.add(prefix + label.toLowerCase(Locale.ROOT));
+        }
+        labels.add(command.getName().toLowerCase(Locale.ROOT));
+        labels.add(prefix + command.getName().toLowerCase(Locale.ROOT));
+        reloadAdvancements();
+    }
+
+    /**
+     * Copies the keys of the possible goal advancements, which only change when data packs are reloaded
+     */
+    public void reloadAdvancements() {
+        advancementKeys = CompletionDictionary.of(Utils.getKeys(Utils.getGoalAdvancements(plugin.getServer())));
+    }
+
+    /**
+     * Gets the keys of the possible goal advancements
+     *
+     * @return Dictionary of keys
+     */
+    public CompletionDictionary getAdvancementKeys() {
+        return advancementKeys;
+    }
+
+    @EventHandler
+    public void onServerLoad(ServerLoadEvent event) {
+        reloadAdvancements();
+    }
+
+    @EventHandler
+    public void onServerResourcesReloaded(ServerResourcesReloadedEvent event) {
+        reloadAdvancements();
+    }
+
+    @EventHandler(ignoreCancelled = true)
+    public void onAsyncTabComplete(AsyncTabCompleteEvent event) {
+        if (event.isHandled() || !event.isCommand())
+            return;
+
+        String buffer = event.getBuffer();
+        if (buffer.startsWith("/"))
+            buffer = buffer.substring(1);
+        int space = buffer.indexOf(' ');
+        if (space < 0 || !labels.contains(buffer.substring(0, space).toLowerCase(Locale.ROOT)))
+            return;
+
+        String[] args = buffer.substring(space + 1).split(" ", -1);
+        event.setCompletions(executor.getTree().complete(event.getSender(), args));
+        event.setHandled(true);
+    }
+
+}
@@ -0,0 +1,37 @@
+package net.trollyloki.manhunt;
+
+import org.bukkit.event.player.PlayerPortalEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+/**
+ * Keeps hunters out of the nether for a while after the first runner enters it
+ */
+public class NetherGraceRule implements ManhuntRule {
+
+    @Override
+    public boolean isEnabled(ManhuntSettings settings) {
+        return settings.getNetherGrace() > 0;
+    }
+
+    @Override
+    public void subscribe(RuleTable table) {
+        table.on(PlayerPortalEvent.class, this::onPlayerPortal);
+    }
+
+    private void onPlayerPortal(AbstractManhunt manhunt, PlayerPortalEvent event) {
+        if (event.getCause() != PlayerTeleportEvent.TeleportCause.NETHER_PORTAL)
+            return;
+
+        Participant participant = manhunt.getParticipant(event.getPlayer().getUniqueId());
+        if (participant == null)
+            return;
+
+        if (participant.runner) {
+            manhunt.setNetherEntryTime();
+        } else if (manhunt.isNetherGracePeriod()) {
+            event.setCancelled(true);
+            event.getPlayer().sendMessage(manhunt.getSettings().getNetherEntryDeny());
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package net.trollyloki.manhunt;
+
+import java.util.UUID;
+
+/**
+ * State of one player in a manhunt, kept in plain fields so an event only needs one lookup per player
+ */
+final class Participant {
+
+    /**
+     * Tick value for something that has not happened
+     */
+    static final int NEVER = Integer.MIN_VALUE;
+
+    final UUID uuid;
+    final int slot;
+    boolean runner;
+
+    int revives;
+    int invincibleUntil;
+    int lastHit;
+    boolean canRevive;
+    DropHolder drops;
+
+    /**
+     * Constructs a new participant
+     *
+     * @param uuid Player UUID
+     * @param slot Index of this participant in the manhunt's roster
+     * @param runner {@code true} for a runner, {@code false} for a hunter
+     */
+    Participant(UUID uuid, int slot, boolean runner) {
+        this.uuid = uuid;
+        this.slot = slot;
+        this.runner = runner;
+        reset(0);
+    }
+
+    /**
+     * Clears the state of the previous game
+     *
+     * @param revives Number of revives for the next game
+     */
+    void reset(int revives) {
+        this.revives = revives;
+        this.invincibleUntil = NEVER;
+        this.lastHit = NEVER;
+        this.canRevive = false;
+        this.drops = null;
+    }
+
+}
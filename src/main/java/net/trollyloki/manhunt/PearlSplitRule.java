@@ -0,0 +1,44 @@
+package net.trollyloki.manhunt;
+
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Collection;
+
+/**
+ * Splits the starting ender pearls between the online runners
+ */
+public class PearlSplitRule implements ManhuntRule {
+
+    @Override
+    public boolean isEnabled(ManhuntSettings settings) {
+        return settings.getPearls() > 0;
+    }
+
+    @Override
+    public void subscribe(RuleTable table) {
+
+    }
+
+    @Override
+    public void onStart(AbstractManhunt manhunt) {
+        Collection<Player> runners = manhunt.getRunners();
+        if (runners.isEmpty())
+            return;
+
+        int total = manhunt.getSettings().getPearls();
+        int pearls = total / runners.size();
+        int remainder = total % runners.size();
+        for (Player runner : runners) {
+            int count = pearls;
+            if (remainder > 0) {
+                remainder--;
+                count++;
+            }
+            if (count > 0)
+                runner.getInventory().addItem(new ItemStack(Material.ENDER_PEARL, count));
+        }
+    }
+
+}
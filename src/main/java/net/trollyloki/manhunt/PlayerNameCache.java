@@ -0,0 +1,70 @@
+package net.trollyloki.manhunt;
+
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bounded cache of player names, so names can be looked up without reading offline player data
+ */
+public class PlayerNameCache {
+
+    private static final int MAX_SIZE = 1024;
+
+    private final Server server;
+    private final LinkedHashMap<UUID, String> names = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, String> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    /**
+     * Constructs a new player name cache
+     *
+     * @param server Server
+     */
+    public PlayerNameCache(Server server) {
+        this.server = server;
+    }
+
+    /**
+     * Caches the name of the given player
+     *
+     * @param player Player
+     */
+    public void put(Player player) {
+        names.put(player.getUniqueId(), player.getName());
+    }
+
+    /**
+     * Gets the name of a player, from the cache or from the player if they are online
+     *
+     * @param uuid Player UUID
+     * @return Name, or {@code null} if it is not cached and the player is offline
+     */
+    public String getName(UUID uuid) {
+        String name = names.get(uuid);
+        if (name == null) {
+            Player player = server.getPlayer(uuid);
+            if (player != null) {
+                name = player.getName();
+                names.put(uuid, name);
+            }
+        }
+        return name;
+    }
+
+    /**
+     * Removes a player's name from the cache
+     *
+     * @param uuid Player UUID
+     */
+    public void evict(UUID uuid) {
+        names.remove(uuid);
+    }
+
+}
@@ -0,0 +1,63 @@
+package net.trollyloki.manhunt;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable copy of the manhunt registry and the rosters of its manhunts, safe to read from any thread
+ */
+public final class RegistrySnapshot {
+
+    static final RegistrySnapshot EMPTY = new RegistrySnapshot(CompletionDictionary.EMPTY, Map.of(), Map.of());
+
+    private final CompletionDictionary onlineNames;
+    private final Map<UUID, Roster> owned, memberships;
+
+    RegistrySnapshot(CompletionDictionary onlineNames, Map<UUID, Roster> owned, Map<UUID, Roster> memberships) {
+        this.onlineNames = onlineNames;
+        this.owned = owned;
+        this.memberships = memberships;
+    }
+
+    /**
+     * Gets the names of all online players
+     *
+     * @return Dictionary of names
+     */
+    public CompletionDictionary getOnlineNames() {
+        return onlineNames;
+    }
+
+    /**
+     * Gets the roster of the manhunt owned by the given player
+     *
+     * @param owner Owner
+     * @return Roster, or {@code null} if none
+     */
+    public Roster getOwned(UUID owner) {
+        return owned.get(owner);
+    }
+
+    /**
+     * Gets the roster of the manhunt the given player is a member of
+     *
+     * @param player Player
+     * @return Roster, or {@code null} if none
+     */
+    public Roster getMembership(UUID player) {
+        return memberships.get(player);
+    }
+
+    /**
+     * Names of the online players of a manhunt
+     *
+     * @param runners Dictionary of runner names
+     * @param players Dictionary of all player names
+     */
+    public record Roster(CompletionDictionary runners, CompletionDictionary players) {
+
+        static final Roster EMPTY = new Roster(CompletionDictionary.EMPTY, CompletionDictionary.EMPTY);
+
+    }
+
+}
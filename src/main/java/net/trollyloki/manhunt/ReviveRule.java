@@ -0,0 +1,54 @@
+package net.trollyloki.manhunt;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+
+/**
+ * Lets players who did not die in combat come back with their items a limited number of times
+ */
+public class ReviveRule implements ManhuntRule {
+
+    @Override
+    public boolean isEnabled(ManhuntSettings settings) {
+        return settings.getRevives() > 0;
+    }
+
+    @Override
+    public void subscribe(RuleTable table) {
+        table.on(PlayerDeathEvent.class, this::onPlayerDeath);
+        table.on(PlayerRespawnEvent.class, this::onPlayerRespawn);
+    }
+
+    private void onPlayerDeath(AbstractManhunt manhunt, PlayerDeathEvent event) {
+        Participant participant = manhunt.getParticipant(event.getEntity().getUniqueId());
+        if (participant == null)
+            return;
+
+        if (participant.revives > 0 && !manhunt.isInCombat(participant)) {
+            event.getDrops().clear();
+            event.setDroppedExp(0);
+            participant.canRevive = true;
+        }
+    }
+
+    private void onPlayerRespawn(AbstractManhunt manhunt, PlayerRespawnEvent event) {
+        Player player = event.getPlayer();
+        Participant participant = manhunt.getParticipant(player.getUniqueId());
+        if (participant == null || !participant.canRevive || participant.revives <= 0)
+            return;
+
+        int revives = participant.revives;
+        participant.canRevive = false;
+        ManhuntPlugin plugin = manhunt.getPlugin();
+        plugin.getServer().getScheduler().runTask(plugin, () -> {
+            if (!participant.runner) {
+                plugin.getReviveGUI().open(player, manhunt);
+            } else {
+                manhunt.revive(player);
+                player.sendMessage(String.format(manhunt.getSettings().getRevivesRemaining(), revives - 1));
+            }
+        });
+    }
+
+}
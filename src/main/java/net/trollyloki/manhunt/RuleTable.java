@@ -0,0 +1,87 @@
+package net.trollyloki.manhunt;
+
+import org.bukkit.event.Event;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Event handlers of the active rules of a manhunt, built when the manhunt starts
+ */
+public final class RuleTable {
+
+    static final RuleTable EMPTY = new RuleTable();
+
+    private final List<ManhuntRule> rules = new ArrayList<>();
+    private final Map<Class<? extends Event>, List<BiConsumer<AbstractManhunt, ?>>> handlers = new IdentityHashMap<>();
+
+    private RuleTable() {
+
+    }
+
+    /**
+     * Builds a table of the rules that are enabled with the given settings
+     *
+     * @param rules Rules
+     * @param settings Settings
+     * @return Rule table
+     */
+    static RuleTable build(List<ManhuntRule> rules, ManhuntSettings settings) {
+        RuleTable table = new RuleTable();
+        for (ManhuntRule rule : rules) {
+            if (rule.isEnabled(settings)) {
+                table.rules.add(rule);
+                rule.subscribe(table);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Subscribes a handler to an exact event type, handlers run in the order they are subscribed
+     *
+     * @param type Event type
+     * @param handler Handler
+     * @param <E> Event type
+     */
+    public <E extends Event> void on(Class<E> type, BiConsumer<AbstractManhunt, ? super E> handler) {
+        handlers.computeIfAbsent(type, t -> new ArrayList<>()).add(handler);
+    }
+
+    /**
+     * Checks if any active rule handles an event type
+     *
+     * @param type Event type
+     * @return {@code true} if a handler is subscribed
+     */
+    public boolean handles(Class<? extends Event> type) {
+        return handlers.containsKey(type);
+    }
+
+    /**
+     * Gets the active rules
+     *
+     * @return Rules
+     */
+    public List<ManhuntRule> getRules() {
+        return rules;
+    }
+
+    @SuppressWarnings("unchecked")
+    <E extends Event> void dispatch(AbstractManhunt manhunt, Class<E> type, E event) {
+        List<BiConsumer<AbstractManhunt, ?>> list = handlers.get(type);
+        if (list == null)
+            return;
+        for (BiConsumer<AbstractManhunt, ?> handler : list)
+            ((BiConsumer<AbstractManhunt, E>) handler).accept(manhunt, event);
+    }
+
+    void start(AbstractManhunt manhunt) {
+        for (ManhuntRule rule : rules)
+            rule.onStart(manhunt);
+    }
+
+}
@@ -0,0 +1,151 @@
+package net.trollyloki.manhunt;
+
+import org.bukkit.HeightMap;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Tag;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Finds safe spawn locations by loading batches of random candidate chunks in parallel and scoring each candidate
+ */
+public class SpawnFinder {
+
+    private static final String[] PREFERRED_BIOMES = {"plains", "meadow", "forest", "taiga", "savanna"};
+    private static final String[] AVOIDED_BIOMES = {"swamp", "frozen", "ice", "snowy", "peaks", "badlands", "mushroom"};
+    private static final BlockFace[] NEIGHBORS = {
+            BlockFace.NORTH, BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST,
+            BlockFace.NORTH_EAST, BlockFace.SOUTH_EAST, BlockFace.SOUTH_WEST, BlockFace.NORTH_WEST
+    };
+
+    private record Candidate(Location location, int score) {}
+
+    private final World world;
+    private final int maxDistance;
+    private final Random random;
+    private final int batchSize, maxBatches;
+
+    /**
+     * Constructs a new spawn finder
+     *
+     * @param world World
+     * @param maxDistance Maximum distance from the center of the world
+     * @param random Random source for candidate coordinates
+     * @param batchSize Number of candidate chunks to load at once
+     * @param maxBatches Maximum number of batches to try before falling back to the world spawn
+     */
+    public SpawnFinder(World world, int maxDistance, Random random, int batchSize, int maxBatches) {
+        this.world = world;
+        this.maxDistance = maxDistance;
+        this.random = random;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxBatches = Math.max(maxBatches, 1);
+    }
+
+    /**
+     * Finds the given number of safe spawn locations in distinct columns, best first.
+     * If not enough are found within the maximum number of batches, the rest are the world spawn,
+     * so in that case locations may repeat.
+     *
+     * @param count Number of locations
+     * @return Future list of locations, completed on the main thread
+     */
+    public CompletableFuture<List<Location>> find(int count) {
+        CompletableFuture<List<Location>> future = new CompletableFuture<>();
+        nextBatch(count, new ArrayList<>(), 1, future);
+        return future;
+    }
+
+    private void nextBatch(int count, List<Candidate> found, int batch, CompletableFuture<List<Location>> future) {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Candidate>[] candidates = new CompletableFuture[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            // kept off the chunk edges so checking the neighbors never loads another chunk
+            int x = (Utils.getRandomCoordinate(random, maxDistance) & ~15) | (1 + random.nextInt(14));
+            int z = (Utils.getRandomCoordinate(random, maxDistance) & ~15) | (1 + random.nextInt(14));
+            candidates[i] = world.getChunkAtAsync(x >> 4, z >> 4, true).thenApply(chunk -> evaluate(x, z));
+        }
+
+        CompletableFuture.allOf(candidates).whenComplete((v, e) -> {
+            if (e != null) {
+                future.completeExceptionally(e);
+                return;
+            }
+
+            for (CompletableFuture<Candidate> candidate : candidates) {
+                Candidate c = candidate.join();
+                if (c != null && found.stream().noneMatch(f -> isSameColumn(f.location(), c.location())))
+                    found.add(c);
+            }
+
+            if (found.size() >= count || batch >= maxBatches) {
+                if (found.size() < count)
+                    ManhuntPlugin.getInstance().getLogger().warning("Only found " + found.size() + " of " + count
+                            + " safe spawn locations after " + batch * batchSize + " attempts, using the world spawn");
+
+                found.sort(Comparator.comparingInt(Candidate::score).reversed());
+                List<Location> locations = new ArrayList<>(count);
+                for (int i = 0; i < count; i++)
+                    locations.add(i < found.size() ? found.get(i).location() : world.getSpawnLocation());
+                future.complete(locations);
+            } else {
+                nextBatch(count, found, batch + 1, future);
+            }
+        });
+    }
+
+    /**
+     * Scores the surface of a column, the chunk must already be loaded
+     *
+     * @param x Block x coordinate
+     * @param z Block z coordinate
+     * @return Candidate, or {@code null} if the column is not safe
+     */
+    private Candidate evaluate(int x, int z) {
+        Block ground = world.getHighestBlockAt(x, z, HeightMap.MOTION_BLOCKING_NO_LEAVES);
+        if (!isSafeGround(ground.getType()) || ground.isLiquid())
+            return null;
+
+        Block feet = ground.getRelative(BlockFace.UP), head = feet.getRelative(BlockFace.UP);
+        if (!feet.isPassable() || feet.isLiquid() || feet.getType() == Material.POWDER_SNOW
+                || !head.isPassable() || head.isLiquid())
+            return null;
+
+        for (BlockFace face : NEIGHBORS) {
+            Material type = ground.getRelative(face).getType();
+            if (type == Material.LAVA || type == Material.POWDER_SNOW)
+                return null;
+        }
+
+        int score = 0;
+        String biome = ground.getBiome().getKey().getKey();
+        for (String preferred : PREFERRED_BIOMES) {
+            if (biome.contains(preferred))
+                score += 2;
+        }
+        for (String avoided : AVOIDED_BIOMES) {
+            if (biome.contains(avoided))
+                score -= 2;
+        }
+
+        return new Candidate(feet.getLocation().add(0.5, 0, 0.5), score);
+    }
+
+    private static boolean isSameColumn(Location a, Location b) {
+        return a.getBlockX() == b.getBlockX() && a.getBlockZ() == b.getBlockZ();
+    }
+
+    private static boolean isSafeGround(Material type) {
+        return type.isSolid() && !Tag.LEAVES.isTagged(type) && type != Material.POWDER_SNOW
+                && type != Material.MAGMA_BLOCK && type != Material.CACTUS;
+    }
+
+}
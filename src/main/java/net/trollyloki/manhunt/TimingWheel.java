@@ -0,0 +1,87 @@
+package net.trollyloki.manhunt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hashed timing wheel for scheduling tasks on a tick counter that only moves forward one tick at a time
+ */
+public class TimingWheel {
+
+    private static final int DEFAULT_SIZE = 256;
+
+    private record Entry(int tick, Runnable task) {}
+
+    private final List<Entry>[] buckets;
+    private final int mask;
+    private final List<Entry> due = new ArrayList<>();
+
+    /**
+     * Constructs a new timing wheel with the default number of buckets
+     */
+    public TimingWheel() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * Constructs a new timing wheel
+     *
+     * @param size Number of buckets, must be a power of two
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(int size) {
+        if (size <= 0 || (size & (size - 1)) != 0)
+            throw new IllegalArgumentException("Size must be a power of two");
+        this.buckets = new List[size];
+        for (int i = 0; i < size; i++)
+            buckets[i] = new ArrayList<>(0);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Schedules a task to run when the wheel is advanced to the given tick
+     *
+     * @param tick Tick
+     * @param task Task
+     */
+    public void schedule(int tick, Runnable task) {
+        buckets[tick & mask].add(new Entry(tick, task));
+    }
+
+    /**
+     * Runs all tasks scheduled for the given tick, in the order they were scheduled
+     *
+     * @param tick Tick
+     */
+    public void advance(int tick) {
+        List<Entry> bucket = buckets[tick & mask];
+        if (bucket.isEmpty())
+            return;
+
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            Entry entry = bucket.get(i);
+            if (entry.tick() == tick)
+                due.add(entry);
+            else
+                bucket.set(kept++, entry);
+        }
+        bucket.subList(kept, bucket.size()).clear();
+
+        try {
+            for (Entry entry : due)
+                entry.task().run();
+        } finally {
+            due.clear();
+        }
+    }
+
+    /**
+     * Removes all scheduled tasks
+     */
+    public void clear() {
+        for (List<Entry> bucket : buckets)
+            bucket.clear();
+    }
+
+}
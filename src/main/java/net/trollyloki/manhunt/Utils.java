@@ -3,61 +3,31 @@ package net.trollyloki.manhunt;
 import org.bukkit.*;
 import org.bukkit.advancement.Advancement;
 import org.bukkit.advancement.AdvancementProgress;
-import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.persistence.PersistentDataAdapterContext;
 import org.bukkit.persistence.PersistentDataType;
-import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitRunnable;
 
-import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 
 public class Utils {
 
-    /**
-     * Gets a random location in the given world
-     *
-     * @param world World
-     * @param maxDistance Maximum distance from the center of the world
-     */
-    public static CompletableFuture<Location> getRandomSafeLocation(Plugin plugin, World world, int maxDistance) {
-        final CompletableFuture<Location> future = new CompletableFuture<>();
-        BukkitRunnable runnable = new BukkitRunnable() {
-
-            @Override
-            public void run() {
-                Location location = tryRandomLocation(world, maxDistance);
-                if (location != null) {
-                    future.complete(location);
-                    cancel();
-                }
-            }
-
-        };
-        runnable.runTaskTimer(plugin, 10, 10);
-        return future;
-    }
-
-    public static Location tryRandomLocation(World world, int maxDistance) {
-        int x = getRandomCoordinate(maxDistance);
-        int z = getRandomCoordinate(maxDistance);
-        Block block = world.getHighestBlockAt(x, z);
-        if (!block.isLiquid())
-            return block.getLocation().add(0.5, 1, 0.5);
-        else
-            return null;
-    }
-
     /**
      * Gets a random coordinate
      *
+     * @param random Random source
      * @param maxDistance Maximum distance from 0
      */
-    public static int getRandomCoordinate(int maxDistance) {
-        return (int) ((Math.random() - 0.5) * 2 * maxDistance);
+    public static int getRandomCoordinate(Random random, int maxDistance) {
+        return (int) ((random.nextDouble() - 0.5) * 2 * maxDistance);
     }
 
     /**
@@ -93,27 +63,63 @@ public class Utils {
     }
 
     /**
-     * Deletes the given directory and all files in it
+     * Deletes the given directory and all files in it, does nothing if it does not exist
      *
      * @param directory Directory
-     * @return {@code true} if the directory was deleted
+     * @throws IOException If a file could not be deleted
+     */
+    public static void deleteDirectory(Path directory) throws IOException {
+        if (!Files.exists(directory))
+            return;
+
+        Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+                if (e != null)
+                    throw e;
+                Files.delete(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Copies the given directory and all files in it, transferring file contents directly between channels
+     *
+     * @param source Source directory
+     * @param target Target directory, files in it must not exist yet
+     * @param skipped Names of files not to copy
+     * @throws IOException If a file could not be copied
      */
-    public static boolean deleteDirectory(File directory) {
-        Stack<File> stack = new Stack<>();
-        stack.push(directory);
-        while (!stack.isEmpty()) {
-            File next = stack.pop();
-            for (File file : next.listFiles()) {
-                if (file.isDirectory()) {
-                    stack.push(file);
-                } else {
-                    if (!file.delete())
-                        return false;
-                    file.getParentFile().delete(); // attempt to delete parent folder
+    public static void copyDirectory(Path source, Path target, Set<String> skipped) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(target.resolve(source.relativize(dir)));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                if (skipped.contains(file.getFileName().toString()))
+                    return FileVisitResult.CONTINUE;
+
+                try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ);
+                     FileChannel out = FileChannel.open(target.resolve(source.relativize(file)),
+                             StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                    long size = in.size(), position = 0;
+                    while (position < size)
+                        position += in.transferTo(position, size - position, out);
                 }
+                return FileVisitResult.CONTINUE;
             }
-        }
-        return true;
+        });
     }
 
     /**
@@ -131,6 +137,23 @@ public class Utils {
         }
     }
 
+    /**
+     * Gets the advancements that can be the goal of an advancement manhunt, which excludes recipes
+     *
+     * @param server Server
+     * @return List of advancements
+     */
+    public static List<Advancement> getGoalAdvancements(Server server) {
+        ArrayList<Advancement> list = new ArrayList<>();
+        Iterator<Advancement> iter = server.advancementIterator();
+        while (iter.hasNext()) {
+            Advancement advancement = iter.next();
+            if (!advancement.getKey().getKey().startsWith("recipes"))
+                list.add(advancement);
+        }
+        return list;
+    }
+
     /**
      * Converts a collection of players to a list of names
      *
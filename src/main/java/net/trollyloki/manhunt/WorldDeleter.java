@@ -0,0 +1,123 @@
+package net.trollyloki.manhunt;
+
+import org.bukkit.World;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Deletes the folders of unloaded manhunt worlds on a background thread
+ */
+public class WorldDeleter {
+
+    private static final Pattern WORLD_NAME = Pattern.compile(
+            "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}(_nether|_the_end)?");
+
+    private final ManhuntPlugin plugin;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Manhunt World Deleter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Constructs a new world deleter
+     *
+     * @param plugin Plugin
+     */
+    public WorldDeleter(ManhuntPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Unloads a world and deletes its folder in the background, saving it first if enabled in the config
+     *
+     * @param world World
+     * @return {@code true} if the world was unloaded
+     */
+    public boolean unloadAndDelete(World world) {
+        File folder = world.getWorldFolder();
+        if (!plugin.getServer().unloadWorld(world, plugin.getConfig().getBoolean("teardown.save-worlds")))
+            return false;
+        if (plugin.getConfig().getBoolean("teardown.delete-worlds"))
+            delete(folder.toPath());
+        return true;
+    }
+
+    /**
+     * Deletes the folder of a world that was never loaded, such as a dimension copied from the template but not needed
+     *
+     * @param name World name
+     */
+    public void deleteUnloaded(String name) {
+        if (!plugin.getConfig().getBoolean("teardown.delete-worlds") || plugin.getServer().getWorld(name) != null)
+            return;
+        File folder = new File(plugin.getServer().getWorldContainer(), name);
+        if (folder.exists())
+            delete(folder.toPath());
+    }
+
+    /**
+     * Deletes a folder in the background, retrying if it fails
+     *
+     * @param folder Folder
+     * @return Future completed with {@code true} if the folder was deleted
+     */
+    public CompletableFuture<Boolean> delete(Path folder) {
+        int retries = Math.max(plugin.getConfig().getInt("teardown.delete-retries"), 0);
+        long retryDelay = plugin.getConfig().getLong("teardown.retry-delay");
+        return CompletableFuture.supplyAsync(() -> {
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    Utils.deleteDirectory(folder);
+                    return true;
+                } catch (IOException e) {
+                    if (attempt >= retries) {
+                        plugin.getLogger().warning("Failed to delete " + folder + ": " + e);
+                        return false;
+                    }
+                }
+
+                try {
+                    Thread.sleep(retryDelay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }, executor);
+    }
+
+    /**
+     * Deletes the folders of manhunt worlds that were left behind, for example by a crash, in the background
+     */
+    public void sweep() {
+        File[] folders = plugin.getServer().getWorldContainer().listFiles(File::isDirectory);
+        if (folders == null)
+            return;
+
+        for (File folder : folders) {
+            if (WORLD_NAME.matcher(folder.getName()).matches() && plugin.getServer().getWorld(folder.getName()) == null)
+                delete(folder.toPath());
+        }
+    }
+
+    /**
+     * Stops accepting deletions and waits briefly for queued ones to finish, anything left is swept on the next startup
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,166 @@
+package net.trollyloki.manhunt;
+
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of pre-created manhunt worlds, refilled in the background while the server is running well
+ */
+public class WorldPool implements Runnable {
+
+    /**
+     * A set of pre-created worlds
+     *
+     * @param uuid UUID the worlds are named after
+     * @param worlds [Overworld, Nether, End]
+     */
+    public record Worlds(UUID uuid, World[] worlds) {}
+
+    private final ManhuntPlugin plugin;
+    private final ArrayDeque<Worlds> pool = new ArrayDeque<>();
+    private BukkitTask task;
+
+    private int targetSize;
+    private double minTps;
+    private boolean filling = false;
+
+    private int created = 0;
+    private long totalCreationNanos = 0;
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * Constructs a new world pool
+     *
+     * @param plugin Plugin
+     */
+    public WorldPool(ManhuntPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Reads the pool settings from the config, discards sets of worlds above the new size
+     * and starts refilling the pool if it is enabled
+     */
+    public void restart() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        targetSize = Math.max(plugin.getConfig().getInt("world-pool.size"), 0);
+        while (pool.size() > targetSize)
+            discard(pool.pollLast());
+        minTps = plugin.getConfig().getDouble("world-pool.min-tps");
+        if (targetSize > 0) {
+            int interval = Math.max(plugin.getConfig().getInt("world-pool.check-interval"), 1);
+            task = plugin.getServer().getScheduler().runTaskTimer(plugin, this, interval, interval);
+        }
+    }
+
+    @Override
+    public void run() {
+        if (filling || pool.size() >= targetSize)
+            return;
+        if (plugin.getServer().getTPS()[0] < minTps)
+            return;
+
+        filling = true;
+        UUID uuid = UUID.randomUUID();
+        long start = System.nanoTime();
+        plugin.getListener().createWorlds(uuid.toString()).whenComplete((worlds, e) -> {
+            filling = false;
+            if (e != null) {
+                plugin.getLogger().warning("Failed to create pooled worlds: " + e);
+                return;
+            }
+            created++;
+            totalCreationNanos += System.nanoTime() - start;
+            if (pool.size() >= targetSize || !plugin.isEnabled()) // shrunk or stopped while creating
+                discard(new Worlds(uuid, worlds));
+            else
+                pool.add(new Worlds(uuid, worlds));
+        });
+    }
+
+    /**
+     * Stops refilling the pool and unloads and deletes every pooled world
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        targetSize = 0;
+        while (!pool.isEmpty())
+            discard(pool.poll());
+    }
+
+    private void discard(Worlds worlds) {
+        for (World world : worlds.worlds()) {
+            if (world != null)
+                plugin.getWorldDeleter().unloadAndDelete(world);
+        }
+    }
+
+    /**
+     * Takes a set of worlds from the pool
+     *
+     * @return Worlds, or {@code null} if the pool is empty
+     */
+    public Worlds poll() {
+        return pool.poll();
+    }
+
+    /**
+     * Gets the number of sets of worlds that are ready
+     *
+     * @return Pool size
+     */
+    public int size() {
+        return pool.size();
+    }
+
+    /**
+     * Gets the number of sets of worlds the pool tries to keep ready
+     *
+     * @return Target pool size
+     */
+    public int getTargetSize() {
+        return targetSize;
+    }
+
+    /**
+     * Gets the number of sets of worlds this pool has created
+     *
+     * @return Number of sets of worlds
+     */
+    public int getCreated() {
+        return created;
+    }
+
+    /**
+     * Gets the number of sets of worlds this pool has created per hour since it was constructed
+     *
+     * @return Sets of worlds per hour
+     */
+    public double getCreatedPerHour() {
+        double hours = (System.nanoTime() - startNanos) / (double) TimeUnit.HOURS.toNanos(1);
+        return hours > 0 ? created / hours : 0;
+    }
+
+    /**
+     * Gets the average time this pool has taken to create a set of worlds
+     *
+     * @return Milliseconds, or {@code 0} if none have been created
+     */
+    public long getAverageCreationMillis() {
+        if (created == 0)
+            return 0;
+        return TimeUnit.NANOSECONDS.toMillis(totalCreationNanos / created);
+    }
+
+}
@@ -0,0 +1,155 @@
+package net.trollyloki.manhunt;
+
+import org.bukkit.World;
+import org.bukkit.WorldCreator;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Template overworld, nether, and end that new manhunt worlds are copied from, so every manhunt gets the same seed
+ * and the template's pre-generated chunks
+ */
+public class WorldTemplate {
+
+    private static final String READY_MARKER = "manhunt-template";
+    private static final Set<String> SKIPPED_FILES = Set.of("uid.dat", "session.lock", READY_MARKER);
+
+    private final ManhuntPlugin plugin;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Manhunt World Copier");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private String name;
+    private World[] generating;
+    private BukkitTask task;
+    private boolean ready = false;
+
+    /**
+     * Constructs a new world template
+     *
+     * @param plugin Plugin
+     */
+    public WorldTemplate(ManhuntPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Reads the template settings from the config and generates the template if it is enabled and not ready yet
+     */
+    public void restart() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        ready = false;
+
+        if (!plugin.getConfig().getBoolean("template.enabled"))
+            return;
+
+        name = plugin.getConfig().getString("template.name");
+        boolean generated = true;
+        for (int i = 0; i < 3; i++) {
+            if (!new File(getFolder(name, i), READY_MARKER).exists())
+                generated = false;
+        }
+        if (generated) {
+            ready = true;
+            return;
+        }
+
+        long seed = plugin.getConfig().getLong("template.seed");
+        generating = new World[3];
+        for (int i = 0; i < 3; i++) {
+            WorldCreator creator = new WorldCreator(String.format(ManhuntListener.WORLD_NAMES[i], name))
+                    .environment(ManhuntListener.ENVIRONMENTS[i]);
+            if (seed != 0)
+                creator.seed(seed);
+            World world = plugin.getServer().createWorld(creator);
+            world.setKeepSpawnInMemory(false);
+            plugin.getPregenerator().start(world, world.getSpawnLocation());
+            generating[i] = world;
+        }
+        task = plugin.getServer().getScheduler().runTaskTimer(plugin, this::checkGenerated, 100, 100);
+    }
+
+    /**
+     * Saves and unloads the template once all of its chunks have been pre-generated
+     */
+    private void checkGenerated() {
+        for (World world : generating) {
+            if (plugin.getPregenerator().getJob(world) != null)
+                return;
+        }
+
+        for (World world : generating) {
+            File folder = world.getWorldFolder();
+            if (!plugin.getServer().unloadWorld(world, true)) {
+                plugin.getLogger().warning("Failed to unload template world " + world.getName());
+                return;
+            }
+            try {
+                new File(folder, READY_MARKER).createNewFile();
+            } catch (IOException e) {
+                e.printStackTrace();
+                return;
+            }
+        }
+
+        task.cancel();
+        task = null;
+        generating = null;
+        ready = true;
+        plugin.getLogger().info("World template " + name + " is ready");
+    }
+
+    /**
+     * Checks if new worlds are copied from this template
+     *
+     * @return {@code true} if the template is enabled and has been generated
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Copies this template to the folders of a new overworld, nether, and end in the background
+     *
+     * @param target Name of the new overworld
+     * @return Future completed once the folders are ready, immediately if this template is not ready
+     */
+    public CompletableFuture<Void> copyTo(String target) {
+        if (!ready)
+            return CompletableFuture.completedFuture(null);
+
+        String source = name;
+        return CompletableFuture.runAsync(() -> {
+            try {
+                for (int i = 0; i < 3; i++)
+                    Utils.copyDirectory(getFolder(source, i).toPath(), getFolder(target, i).toPath(), SKIPPED_FILES);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private File getFolder(String name, int dimension) {
+        return new File(plugin.getServer().getWorldContainer(), String.format(ManhuntListener.WORLD_NAMES[dimension], name));
+    }
+
+    /**
+     * Stops accepting copies, any copy in progress is abandoned
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,17 @@
+package net.trollyloki.manhunt.command;
+
+/**
+ * Action run when a command resolves to a node
+ */
+@FunctionalInterface
+public interface CommandAction {
+
+    /**
+     * Runs this action
+     *
+     * @param context Context of the command
+     * @return {@code true} if the command succeeded
+     */
+    boolean run(CommandContext context);
+
+}
@@ -0,0 +1,70 @@
+package net.trollyloki.manhunt.command;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sender, label and parsed arguments of a command being run or completed
+ */
+public class CommandContext {
+
+    private final CommandSender sender;
+    private final String label;
+    private final Map<String, String> arguments = new HashMap<>();
+
+    /**
+     * Constructs a new command context
+     *
+     * @param sender Command sender
+     * @param label Label the command was used with
+     */
+    public CommandContext(CommandSender sender, String label) {
+        this.sender = sender;
+        this.label = label;
+    }
+
+    public CommandSender getSender() {
+        return sender;
+    }
+
+    /**
+     * Gets the sender as a player, for nodes that only players can use
+     *
+     * @return Player
+     * @throws ClassCastException If the sender is not a player
+     */
+    public Player getPlayer() {
+        return (Player) sender;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Gets the value of an argument
+     *
+     * @param name Argument name
+     * @return Value, or {@code null} if the argument was not given
+     */
+    public String get(String name) {
+        return arguments.get(name);
+    }
+
+    void put(String name, String value) {
+        arguments.put(name, value);
+    }
+
+    /**
+     * Sends a message to the sender
+     *
+     * @param message Message
+     */
+    public void reply(String message) {
+        sender.sendMessage(message);
+    }
+
+}
@@ -0,0 +1,296 @@
+package net.trollyloki.manhunt.command;
+
+import net.trollyloki.manhunt.CompletionDictionary;
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Node of a command tree, either a literal word or an argument.
+ * The same tree is walked to run a command and to complete one, and a literal is resolved with a single map lookup.
+ */
+public class CommandNode {
+
+    private final String name;
+    private final SuggestionProvider suggestions; // null for literals
+
+    private final Map<String, CommandNode> literals = new HashMap<>();
+    private final List<CommandNode> literalOrder = new ArrayList<>();
+    private CommandNode argument;
+
+    private String permission, permissionMessage, playerMessage, usage;
+    private CommandAction action;
+
+    private volatile LiteralCompletions literalCompletions; // built on first completion
+
+    private CommandNode(String name, SuggestionProvider suggestions) {
+        this.name = name;
+        this.suggestions = suggestions;
+    }
+
+    /**
+     * Creates a node matching a fixed word, ignoring case
+     *
+     * @param name Word
+     * @return Node
+     */
+    public static CommandNode literal(String name) {
+        return new CommandNode(name.toLowerCase(Locale.ROOT), null);
+    }
+
+    /**
+     * Creates a node matching any word
+     *
+     * @param name Argument name
+     * @param suggestions Suggestions for completing the argument
+     * @return Node
+     */
+    public static CommandNode argument(String name, SuggestionProvider suggestions) {
+        return new CommandNode(name, suggestions);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Checks if this node is an argument
+     *
+     * @return {@code true} if this node is an argument, {@code false} if it is a literal
+     */
+    public boolean isArgument() {
+        return suggestions != null;
+    }
+
+    /**
+     * Adds a child node, a node may have any number of literal children but only one argument child
+     *
+     * @param child Child node
+     * @return This node
+     */
+    public CommandNode then(CommandNode child) {
+        if (child.isArgument()) {
+            if (argument != null)
+                throw new IllegalStateException(name + " already has an argument");
+            argument = child;
+        } else {
+            if (literals.putIfAbsent(child.name, child) != null)
+                throw new IllegalStateException(name + " already has a child named " + child.name);
+            literalOrder.add(child);
+            literalCompletions = null;
+        }
+        return this;
+    }
+
+    /**
+     * Requires a permission to use this node, which also hides it from completion
+     *
+     * @param permission Permission
+     * @param message Message sent to senders without the permission
+     * @return This node
+     */
+    public CommandNode requires(String permission, String message) {
+        this.permission = permission;
+        this.permissionMessage = message;
+        return this;
+    }
+
+    /**
+     * Only allows players to use this node
+     *
+     * @param message Message sent to other senders
+     * @return This node
+     */
+    public CommandNode playersOnly(String message) {
+        this.playerMessage = message;
+        return this;
+    }
+
+    /**
+     * Sets the action run when a command ends at this node
+     *
+     * @param action Action
+     * @return This node
+     */
+    public CommandNode executes(CommandAction action) {
+        this.action = action;
+        return this;
+    }
+
+    /**
+     * Overrides the generated usage shown when a command ends at this node or below without an action
+     *
+     * @param usage Arguments of the usage, without the label
+     * @return This node
+     */
+    public CommandNode usage(String usage) {
+        this.usage = usage;
+        return this;
+    }
+
+    private CommandNode getChild(String token) {
+        CommandNode child = literals.get(token.toLowerCase(Locale.ROOT));
+        return child != null ? child : argument;
+    }
+
+    private boolean canUse(CommandSender sender) {
+        return permission == null || sender.hasPermission(permission);
+    }
+
+    private boolean check(CommandSender sender) {
+        if (playerMessage != null && !(sender instanceof Player)) {
+            sender.sendMessage(ChatColor.RED + playerMessage);
+            return false;
+        }
+        if (!canUse(sender)) {
+            sender.sendMessage(ChatColor.RED + permissionMessage);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Runs a command starting at this node
+     *
+     * @param sender Command sender
+     * @param label Label the command was used with
+     * @param args Arguments
+     * @return {@code true} if the command succeeded
+     */
+    public boolean dispatch(CommandSender sender, String label, String[] args) {
+        CommandContext context = new CommandContext(sender, label);
+        StringBuilder path = new StringBuilder();
+        String usage = this.usage;
+
+        CommandNode node = this;
+        for (String token : args) {
+            CommandNode child = node.getChild(token);
+            if (child == null)
+                break;
+            if (!child.check(sender))
+                return false;
+
+            if (child.isArgument()) {
+                context.put(child.name, token);
+                path.append('<').append(child.name).append("> ");
+            } else {
+                path.append(child.name).append(' ');
+            }
+            if (child.usage != null)
+                usage = child.usage;
+            node = child;
+        }
+
+        if (node.action != null)
+            return node.action.run(context);
+
+        if (usage == null)
+            usage = (path + node.getChildUsage(sender)).trim();
+        sender.sendMessage(ChatColor.RED + "Usage: /" + label + " " + usage);
+        return false;
+    }
+
+    private String getChildUsage(CommandSender sender) {
+        StringBuilder usage = new StringBuilder("<");
+        for (CommandNode child : literalOrder) {
+            if (child.canUse(sender))
+                usage.append(child.name).append('|');
+        }
+        if (argument != null && argument.canUse(sender))
+            usage.append(argument.name).append('|');
+        if (usage.length() == 1)
+            return "";
+        usage.setCharAt(usage.length() - 1, '>');
+        return usage.toString();
+    }
+
+    /**
+     * Completes the last argument of a command starting at this node, which may be called off the main thread
+     *
+     * @param sender Command sender
+     * @param args Arguments, the last one being the one to complete
+     * @return Completions
+     */
+    public List<String> complete(CommandSender sender, String[] args) {
+        CommandContext context = new CommandContext(sender, null);
+
+        CommandNode node = this;
+        for (int i = 0; i < args.length - 1; i++) {
+            CommandNode child = node.getChild(args[i]);
+            if (child == null || !child.canUse(sender))
+                return Collections.emptyList();
+            if (child.isArgument())
+                context.put(child.name, args[i]);
+            node = child;
+        }
+
+        return node.suggest(context, args.length > 0 ? args[args.length - 1] : "");
+    }
+
+    private List<String> suggest(CommandContext context, String prefix) {
+        List<String> completions = Collections.emptyList();
+        if (!literalOrder.isEmpty())
+            completions = getLiteralDictionary(context.getSender()).complete(prefix);
+
+        if (argument != null && argument.canUse(context.getSender())) {
+            List<String> suggested = argument.suggestions.suggest(context, prefix);
+            if (completions.isEmpty())
+                return suggested;
+            if (!suggested.isEmpty()) {
+                completions = new ArrayList<>(completions);
+                completions.addAll(suggested);
+            }
+        }
+        return completions;
+    }
+
+    private CompletionDictionary getLiteralDictionary(CommandSender sender) {
+        LiteralCompletions completions = literalCompletions;
+        if (completions == null)
+            literalCompletions = completions = LiteralCompletions.of(literalOrder);
+
+        int mask = 0;
+        for (int i = 0; i < completions.permissions().size(); i++) {
+            if (sender.hasPermission(completions.permissions().get(i)))
+                mask |= 1 << i;
+        }
+        return completions.dictionaries()[mask];
+    }
+
+    /**
+     * Names of literal children for each combination of the permissions they require
+     *
+     * @param permissions Distinct permissions required by the children
+     * @param dictionaries Dictionaries indexed by a bit mask of held permissions
+     */
+    private record LiteralCompletions(List<String> permissions, CompletionDictionary[] dictionaries) {
+
+        static LiteralCompletions of(List<CommandNode> children) {
+            List<String> permissions = new ArrayList<>();
+            for (CommandNode child : children) {
+                if (child.permission != null && !permissions.contains(child.permission))
+                    permissions.add(child.permission);
+            }
+
+            CompletionDictionary[] dictionaries = new CompletionDictionary[1 << permissions.size()];
+            for (int mask = 0; mask < dictionaries.length; mask++) {
+                List<String> names = new ArrayList<>();
+                for (CommandNode child : children) {
+                    if (child.permission == null || (mask & 1 << permissions.indexOf(child.permission)) != 0)
+                        names.add(child.name);
+                }
+                dictionaries[mask] = CompletionDictionary.of(names);
+            }
+            return new LiteralCompletions(permissions, dictionaries);
+        }
+
+    }
+
+}
@@ -0,0 +1,20 @@
+package net.trollyloki.manhunt.command;
+
+import java.util.List;
+
+/**
+ * Suggests values for an argument, which may be called off the main thread
+ */
+@FunctionalInterface
+public interface SuggestionProvider {
+
+    /**
+     * Gets the suggestions for an argument
+     *
+     * @param context Context of the command so far
+     * @param prefix Partially typed argument
+     * @return Suggestions
+     */
+    List<String> suggest(CommandContext context, String prefix);
+
+}
@@ -2,17 +2,22 @@ package net.trollyloki.manhunt.compass;
 
 import net.kyori.adventure.text.Component;
 import net.trollyloki.manhunt.ManhuntPlugin;
+import net.trollyloki.manhunt.ManhuntSettings;
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.CompassMeta;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class CompassListener implements Listener {
 
@@ -22,18 +27,106 @@ public class CompassListener implements Listener {
         this.plugin = plugin;
     }
 
-    public static void updateCompass(@NotNull ItemStack itemStack, @NotNull Location origin) {
-        itemStack.editMeta(CompassMeta.class, compass -> {
-            CompassTarget.load(compass.getPersistentDataContainer()).ifPresent(target -> {
-                compass.setDisplayName(ManhuntPlugin.getInstance().getConfigString("tracking-compass.name-prefix") + target.getName());
-                compass.setLore(List.of(ManhuntPlugin.getInstance().getConfigString("tracking-compass.lore")));
+    /**
+     * Updates a tracking compass to point at its target.
+     * The item meta is only written back if the name or lore changed, or if the target moved further than
+     * {@code tracking-compass.update-distance} blocks or changed world.
+     *
+     * @param itemStack item stack
+     * @param origin current location of the compass
+     * @return {@code true} if the compass was changed
+     */
+    public static boolean updateCompass(@NotNull ItemStack itemStack, @NotNull Location origin) {
+        if (itemStack.getType() != Material.COMPASS || !itemStack.hasItemMeta())
+            return false;
+        if (!(itemStack.getItemMeta() instanceof CompassMeta compass))
+            return false;
 
-                target.getLocation(origin).ifPresent(location -> {
-                    compass.setLodestoneTracked(false);
-                    compass.setLodestone(location);
-                });
-            });
-        });
+        Optional<CompassTarget> target = CompassTarget.load(compass.getPersistentDataContainer());
+        if (target.isEmpty())
+            return false;
+        return updateCompass(itemStack, compass, target.get(), target.get().getLocation(origin));
+    }
+
+    /**
+     * Updates a tracking compass whose target was already loaded.
+     *
+     * @param itemStack item stack
+     * @param compass meta of the item stack
+     * @param target target of the compass
+     * @param location current location of the target
+     * @return {@code true} if the compass was changed
+     */
+    private static boolean updateCompass(@NotNull ItemStack itemStack, @NotNull CompassMeta compass,
+                                         @NotNull CompassTarget target, @NotNull Optional<Location> location) {
+        ManhuntSettings settings = ManhuntPlugin.getInstance().getSettings();
+        boolean changed = false;
+
+        String name = settings.getCompassNamePrefix() + target.getName();
+        if (!name.equals(compass.getDisplayName())) {
+            compass.setDisplayName(name);
+            changed = true;
+        }
+
+        List<String> lore = settings.getCompassLore();
+        if (!lore.equals(compass.getLore())) {
+            compass.setLore(lore);
+            changed = true;
+        }
+
+        if (location.isPresent() && pointAt(compass, location.get()))
+            changed = true;
+
+        if (changed)
+            itemStack.setItemMeta(compass);
+        return changed;
+    }
+
+    private static boolean pointAt(@NotNull CompassMeta compass, @NotNull Location location) {
+        if (!compass.isLodestoneTracked() && !hasMoved(compass.getLodestone(), location,
+                ManhuntPlugin.getInstance().getSettings().getCompassUpdateDistance()))
+            return false;
+        compass.setLodestoneTracked(false);
+        compass.setLodestone(location);
+        return true;
+    }
+
+    /**
+     * Points the compass in a player's hand at a location found by a search, if it still tracks the same target.
+     *
+     * @param player player
+     * @param hand hand the compass was in
+     * @param target target that was searched for
+     * @param location location of the target
+     */
+    private static void applySearchResult(@NotNull Player player, @NotNull EquipmentSlot hand,
+                                          @NotNull CompassTarget target, @NotNull Location location) {
+        if (!player.isOnline())
+            return;
+        ItemStack itemStack = player.getInventory().getItem(hand);
+        if (itemStack.getType() != Material.COMPASS || !(itemStack.getItemMeta() instanceof CompassMeta compass))
+            return;
+
+        Optional<CompassTarget> current = CompassTarget.load(compass.getPersistentDataContainer());
+        if (current.isEmpty() || current.get().getClass() != target.getClass() || !current.get().getName().equals(target.getName()))
+            return;
+
+        if (pointAt(compass, location))
+            itemStack.setItemMeta(compass);
+    }
+
+    /**
+     * Checks if a target has moved far enough from where a compass is currently pointing to need an update.
+     *
+     * @param current location the compass is pointing at, may be {@code null}
+     * @param target current location of the target
+     * @param distance minimum distance in blocks
+     * @return {@code true} if the compass should be updated
+     */
+    private static boolean hasMoved(Location current, @NotNull Location target, double distance) {
+        if (current == null || current.getWorld() != target.getWorld())
+            return true;
+        return current.distanceSquared(target) > distance * distance;
     }
 
     public static @NotNull ItemStack createCompassItem(@NotNull CompassTarget target) {
@@ -48,10 +141,24 @@ public class CompassListener implements Listener {
             return;
 
         ItemStack item = event.getItem();
-        if (item == null)
+        if (item == null || item.getType() != Material.COMPASS)
+            return;
+
+        if (!item.hasItemMeta() || !(item.getItemMeta() instanceof CompassMeta compass))
             return;
+        Optional<CompassTarget> target = CompassTarget.load(compass.getPersistentDataContainer());
+        if (target.isEmpty())
+            return;
+
+        Player player = event.getPlayer();
+        CompletableFuture<Optional<Location>> search = target.get().locate(player.getLocation());
+        updateCompass(item, compass, target.get(), search.getNow(Optional.empty()));
 
-        updateCompass(item, event.getPlayer().getLocation());
+        // a search started by the click points the compass once it finishes
+        if (!search.isDone() && event.getHand() != null) {
+            EquipmentSlot hand = event.getHand();
+            search.thenAccept(location -> location.ifPresent(found -> applySearchResult(player, hand, target.get(), found)));
+        }
     }
 
 }
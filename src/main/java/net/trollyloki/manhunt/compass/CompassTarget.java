@@ -7,6 +7,7 @@ import org.bukkit.persistence.PersistentDataType;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface CompassTarget {
 
@@ -20,6 +21,16 @@ public interface CompassTarget {
      */
     @NotNull Optional<Location> getLocation(@NotNull Location origin);
 
+    /**
+     * Locates the target, which may complete later if finding it is expensive.
+     *
+     * @param origin current location of the compass
+     * @return future optional location
+     */
+    default @NotNull CompletableFuture<Optional<Location>> locate(@NotNull Location origin) {
+        return CompletableFuture.completedFuture(getLocation(origin));
+    }
+
     /**
      * Gets the name of the target.
      *
@@ -0,0 +1,98 @@
+package net.trollyloki.manhunt.compass;
+
+import net.trollyloki.manhunt.AbstractManhunt;
+import net.trollyloki.manhunt.ManhuntPlugin;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+
+/**
+ * Periodically updates the tracking compasses in every hunter's inventory, a fixed number of compasses per tick.
+ */
+public class CompassUpdater implements Runnable {
+
+    private final @NotNull ManhuntPlugin plugin;
+    private final @NotNull ArrayDeque<Player> queue = new ArrayDeque<>();
+    private BukkitTask task;
+
+    private int interval, batchSize;
+    private int countdown = 0;
+    private int slot = 0;
+
+    public CompassUpdater(@NotNull ManhuntPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Starts this updater if it is enabled in the config, stopping it first if it is already running.
+     */
+    public void restart() {
+        stop();
+        if (!plugin.getConfig().getBoolean("tracking-compass.auto-update.enabled"))
+            return;
+
+        interval = Math.max(plugin.getConfig().getInt("tracking-compass.auto-update.interval"), 1);
+        batchSize = Math.max(plugin.getConfig().getInt("tracking-compass.auto-update.batch-size"), 1);
+        task = plugin.getServer().getScheduler().runTaskTimer(plugin, this, 1, 1);
+    }
+
+    /**
+     * Stops this updater.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        queue.clear();
+        countdown = 0;
+        slot = 0;
+    }
+
+    @Override
+    public void run() {
+        if (queue.isEmpty()) {
+            if (--countdown > 0)
+                return;
+            countdown = interval;
+
+            for (AbstractManhunt manhunt : plugin.getListener().getManhunts()) {
+                if (manhunt.isRunning())
+                    queue.addAll(manhunt.getHunters());
+            }
+            slot = 0;
+        }
+
+        int budget = batchSize;
+        while (budget > 0 && !queue.isEmpty()) {
+            Player player = queue.peek();
+            if (!player.isOnline()) {
+                queue.poll();
+                slot = 0;
+                continue;
+            }
+
+            PlayerInventory inventory = player.getInventory();
+            for (; slot < inventory.getSize() && budget > 0; slot++) {
+                ItemStack item = inventory.getItem(slot);
+                if (item == null || item.getType() != Material.COMPASS)
+                    continue;
+
+                budget--;
+                if (CompassListener.updateCompass(item, player.getLocation()))
+                    inventory.setItem(slot, item);
+            }
+
+            if (slot >= inventory.getSize()) {
+                queue.poll();
+                slot = 0;
+            }
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package net.trollyloki.manhunt.compass;
 
+import net.trollyloki.manhunt.ManhuntPlugin;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.NamespacedKey;
@@ -45,7 +46,7 @@ public class PlayerCompassTarget implements CompassTarget {
 
     @Override
     public @NotNull String getName() {
-        String name = Bukkit.getOfflinePlayer(uuid).getName();
+        String name = ManhuntPlugin.getInstance().getNameCache().getName(uuid);
         if (name != null)
             return name;
         return uuid.toString();
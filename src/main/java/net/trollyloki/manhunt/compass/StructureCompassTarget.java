@@ -3,10 +3,10 @@ package net.trollyloki.manhunt.compass;
 import net.trollyloki.manhunt.ManhuntPlugin;
 import org.bukkit.Location;
 import org.bukkit.generator.structure.Structure;
-import org.bukkit.util.StructureSearchResult;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public abstract class StructureCompassTarget implements CompassTarget {
 
@@ -16,12 +16,20 @@ public abstract class StructureCompassTarget implements CompassTarget {
         this.structure = structure;
     }
 
+    /**
+     * Gets the location of the target if it is already known, otherwise starts searching for it.
+     *
+     * @param origin current location of the compass
+     * @return optional location, empty while a search is pending
+     */
     @Override
     public @NotNull Optional<Location> getLocation(@NotNull Location origin) {
-        StructureSearchResult result = origin.getWorld().locateNearestStructure(origin, structure,
-                ManhuntPlugin.getInstance().getConfig().getInt("tracking-compass.structure-search-radius"),
-                false);
-        return Optional.ofNullable(result).map(StructureSearchResult::getLocation);
+        return locate(origin).getNow(Optional.empty());
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Optional<Location>> locate(@NotNull Location origin) {
+        return ManhuntPlugin.getInstance().getStructureLocator().locate(origin, structure);
     }
 
 }
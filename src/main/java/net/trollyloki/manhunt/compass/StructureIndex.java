@@ -0,0 +1,293 @@
+package net.trollyloki.manhunt.compass;
+
+import net.trollyloki.manhunt.ManhuntPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.World;
+import org.bukkit.generator.structure.Structure;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persistent index of structure locations.
+ * <p>
+ * Structures only depend on the seed and environment of a world and on the world generator, so the index is keyed by
+ * those and shared by every world generated from the same seed, including worlds copied from a template.
+ * All file access happens in order on a background thread, and only the most recently used files are kept
+ * since most manhunt worlds have a seed of their own.
+ */
+public class StructureIndex {
+
+    private static final int VERSION = 1;
+    private static final double MERGE_DISTANCE = 48; // blocks
+
+    /**
+     * Identifies the worlds that share structure locations
+     *
+     * @param seed world seed
+     * @param environment world environment
+     * @param dataVersion data version of the server, since structure placement can change between game versions
+     */
+    public record Key(long seed, @NotNull World.Environment environment, int dataVersion) {
+
+        @SuppressWarnings("deprecation")
+        public static @NotNull Key of(@NotNull World world) {
+            return new Key(world.getSeed(), world.getEnvironment(), Bukkit.getUnsafe().getDataVersion());
+        }
+
+        private @NotNull String getFileName() {
+            return Long.toHexString(seed) + "_" + environment.name().toLowerCase(Locale.ROOT) + "_" + dataVersion + ".dat";
+        }
+
+    }
+
+    private final @NotNull ManhuntPlugin plugin;
+    private final @NotNull File folder;
+    private final int maxFiles;
+    private final @NotNull Map<Key, Map<Structure, List<Location>>> structures = new HashMap<>();
+    private final @NotNull Set<Key> dirty = new HashSet<>();
+    private final @NotNull Set<Key> loading = new HashSet<>();
+    private final @NotNull Set<Key> unloadAfterLoading = new HashSet<>();
+    private final @NotNull Map<Key, Map<Structure, List<Location>>> pendingWrites = new HashMap<>();
+    private final @NotNull ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Manhunt Structure Index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public StructureIndex(@NotNull ManhuntPlugin plugin, @NotNull File folder) {
+        this.plugin = plugin;
+        this.folder = folder;
+        this.maxFiles = plugin.getConfig().getInt("tracking-compass.structure-index-files");
+        executor.execute(() -> evict(null));
+    }
+
+    /**
+     * Gets the indexed structure locations for a key.
+     * If they are not in memory yet they are read in the background, and added to the returned map once read.
+     * The locations have no world.
+     *
+     * @param key key
+     * @return mutable map of structure locations
+     */
+    public @NotNull Map<Structure, List<Location>> get(@NotNull Key key) {
+        Map<Structure, List<Location>> locations = structures.get(key);
+        if (locations != null)
+            return locations;
+
+        // a snapshot that is still being written is newer than the file
+        Map<Structure, List<Location>> pendingWrite = pendingWrites.get(key);
+        if (pendingWrite != null) {
+            locations = copy(pendingWrite);
+            structures.put(key, locations);
+            return locations;
+        }
+
+        locations = new HashMap<>();
+        structures.put(key, locations);
+
+        loading.add(key);
+        executor.execute(() -> {
+            Map<Structure, List<Location>> loaded = load(key);
+            if (plugin.isEnabled())
+                plugin.getServer().getScheduler().runTask(plugin, () -> loaded(key, loaded));
+        });
+        return locations;
+    }
+
+    /**
+     * Starts reading the locations for a key in the background, so they are ready by the time they are needed.
+     *
+     * @param key key
+     */
+    public void preload(@NotNull Key key) {
+        get(key);
+    }
+
+    private void loaded(@NotNull Key key, @NotNull Map<Structure, List<Location>> loaded) {
+        loading.remove(key);
+        Map<Structure, List<Location>> locations = structures.get(key);
+        if (locations != null) {
+            loaded.forEach((structure, list) -> {
+                List<Location> known = locations.computeIfAbsent(structure, s -> new ArrayList<>());
+                for (Location location : list)
+                    addIfNew(known, location);
+            });
+        }
+        if (unloadAfterLoading.remove(key))
+            unload(key);
+    }
+
+    private static boolean addIfNew(@NotNull List<Location> locations, @NotNull Location location) {
+        for (Location known : locations) {
+            double dx = known.getX() - location.getX(), dz = known.getZ() - location.getZ();
+            if (dx * dx + dz * dz <= MERGE_DISTANCE * MERGE_DISTANCE)
+                return false;
+        }
+        locations.add(location);
+        return true;
+    }
+
+    /**
+     * Adds the location of a structure to the index, unless the same structure is already indexed nearby.
+     *
+     * @param world world
+     * @param structure structure type
+     * @param location location of the structure
+     * @return {@code true} if the location was added
+     */
+    public boolean add(@NotNull World world, @NotNull Structure structure, @NotNull Location location) {
+        Key key = Key.of(world);
+        List<Location> locations = get(key).computeIfAbsent(structure, s -> new ArrayList<>());
+        Location copy = location.clone();
+        copy.setWorld(null);
+        if (!addIfNew(locations, copy))
+            return false;
+        dirty.add(key);
+        return true;
+    }
+
+    /**
+     * Saves the locations for a key in the background if they changed, and forgets them.
+     *
+     * @param key key
+     */
+    public void unload(@NotNull Key key) {
+        if (loading.contains(key)) { // the file contents have to be merged in before saving
+            unloadAfterLoading.add(key);
+            return;
+        }
+
+        Map<Structure, List<Location>> locations = structures.remove(key);
+        if (locations != null && dirty.remove(key))
+            write(key, copy(locations));
+    }
+
+    private void write(@NotNull Key key, @NotNull Map<Structure, List<Location>> snapshot) {
+        pendingWrites.put(key, snapshot);
+        executor.execute(() -> {
+            save(key, snapshot);
+            if (plugin.isEnabled())
+                plugin.getServer().getScheduler().runTask(plugin, () -> pendingWrites.remove(key, snapshot));
+        });
+    }
+
+    /**
+     * Saves every changed set of locations and waits for all writes, including ones already in progress, to finish.
+     * The index can not be used afterwards.
+     */
+    public void shutdown() {
+        for (Key key : dirty) {
+            Map<Structure, List<Location>> locations = structures.get(key);
+            if (locations != null)
+                write(key, copy(locations));
+        }
+        dirty.clear();
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS))
+                plugin.getLogger().warning("Timed out saving the structure index");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private @NotNull Map<Structure, List<Location>> load(@NotNull Key key) {
+        Map<Structure, List<Location>> locations = new HashMap<>();
+        File file = new File(folder, key.getFileName());
+        if (!file.exists())
+            return locations;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != VERSION)
+                return locations;
+
+            int structureCount = in.readInt();
+            for (int i = 0; i < structureCount; i++) {
+                NamespacedKey structureKey = NamespacedKey.fromString(in.readUTF());
+                int count = in.readInt();
+                List<Location> list = new ArrayList<>(count);
+                for (int j = 0; j < count; j++)
+                    list.add(new Location(null, in.readInt(), in.readInt(), in.readInt()));
+
+                Structure structure = structureKey != null ? Registry.STRUCTURE.get(structureKey) : null;
+                if (structure != null)
+                    locations.put(structure, list);
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to read structure index " + file + ": " + e);
+        }
+        file.setLastModified(System.currentTimeMillis()); // marks it as recently used
+        return locations;
+    }
+
+    private void save(@NotNull Key key, @NotNull Map<Structure, List<Location>> locations) {
+        File file = new File(folder, key.getFileName());
+        File temp = new File(folder, key.getFileName() + ".tmp");
+        folder.mkdirs();
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(VERSION);
+            out.writeInt(locations.size());
+            for (Map.Entry<Structure, List<Location>> entry : locations.entrySet()) {
+                out.writeUTF(entry.getKey().getKey().toString());
+                out.writeInt(entry.getValue().size());
+                for (Location location : entry.getValue()) {
+                    out.writeInt(location.getBlockX());
+                    out.writeInt(location.getBlockY());
+                    out.writeInt(location.getBlockZ());
+                }
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to write structure index " + file + ": " + e);
+            return;
+        }
+
+        try {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to replace structure index " + file + ": " + e);
+            return;
+        }
+        evict(file);
+    }
+
+    /**
+     * Deletes the least recently used files until at most the configured number are left
+     *
+     * @param keep File that is never deleted, or {@code null}
+     */
+    private void evict(File keep) {
+        if (maxFiles <= 0)
+            return;
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(".dat"));
+        if (files == null || files.length <= maxFiles)
+            return;
+
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        int excess = files.length - maxFiles;
+        for (int i = 0; i < files.length && excess > 0; i++) {
+            if (files[i].equals(keep))
+                continue;
+            if (files[i].delete())
+                excess--;
+        }
+    }
+
+    private static @NotNull Map<Structure, List<Location>> copy(@NotNull Map<Structure, List<Location>> locations) {
+        Map<Structure, List<Location>> copy = new HashMap<>();
+        locations.forEach((structure, list) -> copy.put(structure, new ArrayList<>(list)));
+        return copy;
+    }
+
+}
@@ -0,0 +1,254 @@
+package net.trollyloki.manhunt.compass;
+
+import net.trollyloki.manhunt.ManhuntPlugin;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.generator.structure.GeneratedStructure;
+import org.bukkit.generator.structure.Structure;
+import org.bukkit.util.BoundingBox;
+import org.bukkit.util.StructureSearchResult;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Locates structures without blocking the caller, remembering every structure found in a {@link StructureIndex}.
+ * <p>
+ * Bukkit only allows structure searches on the main thread, so the search area is split into tiles that are each
+ * searched on their own tick, nearest first, and nearby structures that were already found are answered immediately.
+ * Chunks generated by the pre-generator are scanned for structures, so most lookups never need a search.
+ */
+public class StructureLocator implements Listener {
+
+    private static final int TILE_RADIUS = 8; // chunks
+    private static final int REGION_SHIFT = 9; // searches are shared within 512 by 512 block regions
+    private static final Set<Structure> INDEXED = Set.of(Structure.FORTRESS, Structure.BASTION_REMNANT, Structure.STRONGHOLD);
+
+    private final @NotNull ManhuntPlugin plugin;
+    private final @NotNull StructureIndex index;
+    private final @NotNull Map<World, Map<PendingKey, CompletableFuture<Optional<Location>>>> pending = new IdentityHashMap<>();
+
+    public StructureLocator(@NotNull ManhuntPlugin plugin) {
+        this.plugin = plugin;
+        this.index = new StructureIndex(plugin, new File(plugin.getDataFolder(), "structures"));
+        for (World world : plugin.getServer().getWorlds())
+            index.preload(StructureIndex.Key.of(world));
+    }
+
+    /**
+     * Gets the nearest already found structure within {@code tracking-compass.structure-cache-radius} of the origin.
+     *
+     * @param origin origin of the search
+     * @param structure structure type
+     * @return optional location
+     */
+    public @NotNull Optional<Location> getCached(@NotNull Location origin, @NotNull Structure structure) {
+        List<Location> locations = index.get(StructureIndex.Key.of(origin.getWorld())).get(structure);
+        if (locations == null)
+            return Optional.empty();
+
+        double radius = plugin.getConfig().getInt("tracking-compass.structure-cache-radius") * 16.0;
+        double best = radius * radius;
+        Location nearest = null;
+        for (Location location : locations) {
+            double distance = horizontalDistanceSquared(origin, location);
+            if (distance <= best) {
+                best = distance;
+                nearest = location;
+            }
+        }
+        if (nearest == null)
+            return Optional.empty();
+
+        Location location = nearest.clone();
+        location.setWorld(origin.getWorld());
+        return Optional.of(location);
+    }
+
+    /**
+     * Locates the nearest structure to the origin.
+     * If a search for the same structure from the same region is already pending, its result is shared.
+     *
+     * @param origin origin of the search
+     * @param structure structure type
+     * @return future optional location, completed on the main thread
+     */
+    public @NotNull CompletableFuture<Optional<Location>> locate(@NotNull Location origin, @NotNull Structure structure) {
+        Optional<Location> cached = getCached(origin, structure);
+        if (cached.isPresent())
+            return CompletableFuture.completedFuture(cached);
+
+        World world = origin.getWorld();
+        PendingKey key = new PendingKey(structure, origin.getBlockX() >> REGION_SHIFT, origin.getBlockZ() >> REGION_SHIFT);
+        Map<PendingKey, CompletableFuture<Optional<Location>>> worldPending = pending.computeIfAbsent(world, w -> new HashMap<>());
+        CompletableFuture<Optional<Location>> future = worldPending.get(key);
+        if (future != null)
+            return future;
+
+        CompletableFuture<Optional<Location>> search = new CompletableFuture<>();
+        worldPending.put(key, search);
+        search.whenComplete((location, e) -> {
+            Map<PendingKey, CompletableFuture<Optional<Location>>> map = pending.get(world);
+            if (map != null && map.remove(key, search) && map.isEmpty())
+                pending.remove(world);
+        });
+
+        int maxRadius = plugin.getConfig().getInt("tracking-compass.structure-search-radius");
+        new Search(origin.clone(), structure, maxRadius, search).schedule();
+        return search;
+    }
+
+    /**
+     * Structure and region of a pending search
+     *
+     * @param structure structure type
+     * @param regionX region x coordinate of the origin
+     * @param regionZ region z coordinate of the origin
+     */
+    private record PendingKey(@NotNull Structure structure, int regionX, int regionZ) {}
+
+    /**
+     * Search that covers a square of chunks around the origin one tile per tick, nearest tiles first,
+     * stopping once the remaining tiles are all further away than the nearest structure found
+     */
+    private class Search implements Runnable {
+
+        private final @NotNull Location origin;
+        private final @NotNull Structure structure;
+        private final @NotNull CompletableFuture<Optional<Location>> future;
+        private final int tileRadius;
+        private final @NotNull List<int[]> tiles = new ArrayList<>(); // [chunk x, chunk z, minimum distance squared]
+        private int next = 0;
+        private Location best = null;
+        private double bestDistance = Double.MAX_VALUE;
+
+        private Search(@NotNull Location origin, @NotNull Structure structure, int maxRadius,
+                       @NotNull CompletableFuture<Optional<Location>> future) {
+            this.origin = origin;
+            this.structure = structure;
+            this.future = future;
+            this.tileRadius = Math.max(Math.min(TILE_RADIUS, maxRadius), 0);
+
+            int side = tileRadius * 2 + 1;
+            int tilesPerSide = Math.max(maxRadius - tileRadius + side - 1, 0) / side;
+            int originX = origin.getBlockX() >> 4, originZ = origin.getBlockZ() >> 4;
+            for (int x = -tilesPerSide; x <= tilesPerSide; x++) {
+                for (int z = -tilesPerSide; z <= tilesPerSide; z++) {
+                    // lower bound of the distance from the origin to any block in the tile
+                    long dx = Math.max(Math.abs(x) * side - tileRadius - 1, 0) * 16L;
+                    long dz = Math.max(Math.abs(z) * side - tileRadius - 1, 0) * 16L;
+                    tiles.add(new int[]{originX + x * side, originZ + z * side, (int) Math.min(dx * dx + dz * dz, Integer.MAX_VALUE)});
+                }
+            }
+            tiles.sort(Comparator.comparingInt(tile -> tile[2]));
+        }
+
+        private void schedule() {
+            plugin.getServer().getScheduler().runTask(plugin, this);
+        }
+
+        @Override
+        public void run() {
+            World world = origin.getWorld();
+            if (plugin.getServer().getWorld(world.getUID()) != world) {
+                future.complete(Optional.empty());
+                return;
+            }
+
+            if (next >= tiles.size() || tiles.get(next)[2] > bestDistance) {
+                future.complete(Optional.ofNullable(best));
+                return;
+            }
+
+            int[] tile = tiles.get(next++);
+            Location center = new Location(world, (tile[0] << 4) + 8, origin.getY(), (tile[1] << 4) + 8);
+            StructureSearchResult result;
+            try {
+                result = world.locateNearestStructure(center, structure, tileRadius, false);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+                return;
+            }
+
+            if (result != null) {
+                remember(world, structure, result.getLocation());
+                double distance = horizontalDistanceSquared(origin, result.getLocation());
+                if (distance < bestDistance) {
+                    best = result.getLocation();
+                    bestDistance = distance;
+                }
+            }
+            schedule();
+        }
+
+    }
+
+    /**
+     * Remembers the location of a structure in a world, and in every other world with the same seed.
+     *
+     * @param world world
+     * @param structure structure type
+     * @param location location of the structure
+     */
+    public void remember(@NotNull World world, @NotNull Structure structure, @NotNull Location location) {
+        index.add(world, structure, location);
+    }
+
+    /**
+     * Remembers the fortresses, bastions, and strongholds in a generated chunk.
+     *
+     * @param chunk chunk
+     */
+    public void scan(@NotNull Chunk chunk) {
+        for (GeneratedStructure generated : chunk.getStructures()) {
+            if (!INDEXED.contains(generated.getStructure()))
+                continue;
+
+            BoundingBox box = generated.getBoundingBox();
+            remember(chunk.getWorld(), generated.getStructure(),
+                    new Location(chunk.getWorld(), box.getCenterX(), box.getMinY(), box.getCenterZ()));
+        }
+    }
+
+    /**
+     * Saves every changed part of the structure index and waits for it to be written, called on disable.
+     */
+    public void saveIndex() {
+        index.shutdown();
+    }
+
+    private static double horizontalDistanceSquared(@NotNull Location a, @NotNull Location b) {
+        double dx = a.getX() - b.getX(), dz = a.getZ() - b.getZ();
+        return dx * dx + dz * dz;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(@NotNull WorldLoadEvent event) {
+        index.preload(StructureIndex.Key.of(event.getWorld()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(@NotNull WorldUnloadEvent event) {
+        StructureIndex.Key key = StructureIndex.Key.of(event.getWorld());
+        boolean shared = false;
+        for (World world : plugin.getServer().getWorlds()) {
+            if (world != event.getWorld() && StructureIndex.Key.of(world).equals(key))
+                shared = true;
+        }
+        if (!shared)
+            index.unload(key);
+
+        Map<PendingKey, CompletableFuture<Optional<Location>>> worldPending = pending.remove(event.getWorld());
+        if (worldPending != null)
+            worldPending.values().forEach(future -> future.complete(Optional.empty()));
+    }
+
+}
@@ -0,0 +1,60 @@
+package net.trollyloki.manhunt.types;
+
+import net.md_5.bungee.api.chat.BaseComponent;
+import net.md_5.bungee.api.chat.HoverEvent;
+import net.md_5.bungee.api.chat.TextComponent;
+import net.md_5.bungee.api.chat.TranslatableComponent;
+import net.md_5.bungee.api.chat.hover.content.Text;
+import net.trollyloki.manhunt.AbstractManhunt;
+import net.trollyloki.manhunt.ManhuntRule;
+import net.trollyloki.manhunt.RuleTable;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerAdvancementDoneEvent;
+
+/**
+ * Runners win when one of them obtains the goal advancement
+ */
+public class AdvancementGoalRule implements ManhuntRule {
+
+    private final NamespacedKey goal;
+
+    /**
+     * Constructs a new advancement goal rule
+     *
+     * @param goal Key of the goal advancement
+     */
+    public AdvancementGoalRule(NamespacedKey goal) {
+        this.goal = goal;
+    }
+
+    @Override
+    public void subscribe(RuleTable table) {
+        table.on(PlayerAdvancementDoneEvent.class, this::onPlayerAdvancementDone);
+    }
+
+    @Override
+    public void onStart(AbstractManhunt manhunt) {
+        String key = "advancements." + goal.getKey().replaceAll("/", ".");
+        TranslatableComponent component = new TranslatableComponent(key + ".title");
+        component.setHoverEvent(
+                new HoverEvent(
+                        HoverEvent.Action.SHOW_TEXT,
+                        new Text(
+                                new BaseComponent[]{ new TranslatableComponent(key + ".description") }
+                        )
+                )
+        );
+
+        String message = manhunt.getSettings().getAdvancementGoal();
+        BaseComponent[] components = { new TextComponent(message), component };
+        for (Player player : manhunt.getPlugin().getServer().getOnlinePlayers())
+            player.spigot().sendMessage(components);
+    }
+
+    private void onPlayerAdvancementDone(AbstractManhunt manhunt, PlayerAdvancementDoneEvent event) {
+        if (event.getAdvancement().getKey().equals(goal) && manhunt.isRunner(event.getPlayer().getUniqueId()))
+            manhunt.win("runners");
+    }
+
+}
@@ -2,8 +2,7 @@ package net.trollyloki.manhunt.types;
 
 import net.trollyloki.manhunt.AbstractManhunt;
 import net.trollyloki.manhunt.ManhuntPlugin;
-import org.bukkit.entity.EntityType;
-import org.bukkit.event.entity.EntityDeathEvent;
+import net.trollyloki.manhunt.PearlSplitRule;
 
 public class ClassicManhunt extends AbstractManhunt {
 
@@ -13,19 +12,7 @@ public class ClassicManhunt extends AbstractManhunt {
      * @param plugin Plugin
      */
     public ClassicManhunt(ManhuntPlugin plugin) {
-        super(plugin);
-    }
-
-    @Override
-    protected int getStartingPearlCount() {
-        return getPlugin().getConfig().getInt("game.pearls");
-    }
-
-    @Override
-    public void onEntityDeath(EntityDeathEvent event) {
-        super.onEntityDeath(event);
-        if (event.getEntityType() == EntityType.ENDER_DRAGON)
-            win("runners");
+        super(plugin, new PearlSplitRule(), new DragonWinRule());
     }
 
 }
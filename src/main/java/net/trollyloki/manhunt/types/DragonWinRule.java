@@ -0,0 +1,24 @@
+package net.trollyloki.manhunt.types;
+
+import net.trollyloki.manhunt.AbstractManhunt;
+import net.trollyloki.manhunt.ManhuntRule;
+import net.trollyloki.manhunt.RuleTable;
+import org.bukkit.entity.EntityType;
+import org.bukkit.event.entity.EntityDeathEvent;
+
+/**
+ * Runners win when the Ender Dragon dies
+ */
+public class DragonWinRule implements ManhuntRule {
+
+    @Override
+    public void subscribe(RuleTable table) {
+        table.on(EntityDeathEvent.class, this::onEntityDeath);
+    }
+
+    private void onEntityDeath(AbstractManhunt manhunt, EntityDeathEvent event) {
+        if (event.getEntityType() == EntityType.ENDER_DRAGON)
+            manhunt.win("runners");
+    }
+
+}
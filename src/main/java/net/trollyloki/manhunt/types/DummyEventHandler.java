@@ -5,6 +5,7 @@ import org.bukkit.event.player.PlayerAdvancementDoneEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerPortalEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.world.PortalCreateEvent;
 
 public class DummyEventHandler implements ManhuntEventHandler {
 
@@ -53,4 +54,9 @@ public class DummyEventHandler implements ManhuntEventHandler {
 
     }
 
+    @Override
+    public void onPortalCreate(PortalCreateEvent event) {
+
+    }
+
 }
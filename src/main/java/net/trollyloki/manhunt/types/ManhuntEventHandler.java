@@ -5,6 +5,7 @@ import org.bukkit.event.player.PlayerAdvancementDoneEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerPortalEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.world.PortalCreateEvent;
 
 public interface ManhuntEventHandler {
 
@@ -25,4 +26,6 @@ public interface ManhuntEventHandler {
     void onPlayerAdvancementDone(PlayerAdvancementDoneEvent event);
 
     void onEntityPortal(EntityPortalEvent event);
+
+    void onPortalCreate(PortalCreateEvent event);
 }